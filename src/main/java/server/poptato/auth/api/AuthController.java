@@ -3,6 +3,7 @@ package server.poptato.auth.api;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import server.poptato.auth.api.request.LoginRequestDto;
@@ -13,6 +14,8 @@ import server.poptato.global.dto.TokenPair;
 import server.poptato.global.response.BaseResponse;
 import server.poptato.user.resolver.UserId;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -21,14 +24,14 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public BaseResponse<LoginResponseDto> login(@RequestBody LoginRequestDto loginRequestDto) {
-        LoginResponseDto response = authService.login(loginRequestDto);
-        return new BaseResponse<>(response);
+    public CompletableFuture<BaseResponse<LoginResponseDto>> login(@RequestBody LoginRequestDto loginRequestDto) {
+        return authService.login(loginRequestDto)
+                .thenApply(BaseResponse::new);
     }
 
     @PostMapping("/logout")
-    public BaseResponse logout(@UserId Long userId) {
-        authService.logout(userId);
+    public BaseResponse logout(@UserId Long userId, @RequestHeader("Authorization") String authorization) {
+        authService.logout(userId, authorization.substring("Bearer ".length()));
         return new BaseResponse();
     }
 
@@ -1,7 +1,8 @@
 package server.poptato.auth.application.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.api.request.ReissueTokenRequestDto;
@@ -23,9 +24,11 @@ import server.poptato.user.validator.UserValidator;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
     private final JwtService jwtService;
     private final SocialServiceProvider socialServiceProvider;
@@ -33,20 +36,66 @@ public class AuthService {
     private final UserValidator userValidator;
     private final TodoRepository todoRepository;
     private final MobileRepository mobileRepository;
+    private final Executor loginExecutor;
+
+    public AuthService(JwtService jwtService, SocialServiceProvider socialServiceProvider, UserRepository userRepository,
+                       UserValidator userValidator, TodoRepository todoRepository, MobileRepository mobileRepository,
+                       @Qualifier("loginExecutor") Executor loginExecutor) {
+        this.jwtService = jwtService;
+        this.socialServiceProvider = socialServiceProvider;
+        this.userRepository = userRepository;
+        this.userValidator = userValidator;
+        this.todoRepository = todoRepository;
+        this.mobileRepository = mobileRepository;
+        this.loginExecutor = loginExecutor;
+    }
 
-    public LoginResponseDto login(final LoginRequestDto loginRequestDto) {
+    /**
+     * 소셜 제공자 호출부터 토큰 발급까지 로그인 전용 실행기에서 처리한다.
+     * 토큰 저장과 FCM 토큰 갱신은 동시에 실행하고, 프로필 이미지 갱신은 응답을 기다리게 하지 않는다.
+     */
+    public CompletableFuture<LoginResponseDto> login(final LoginRequestDto loginRequestDto) {
         SocialService socialService = socialServiceProvider.getSocialService(loginRequestDto.socialType());
-        SocialUserInfo userInfo = socialService.getUserData(loginRequestDto.accessToken());
+        return CompletableFuture
+                .supplyAsync(() -> socialService.getUserData(loginRequestDto.accessToken()), loginExecutor)
+                .thenCompose(userInfo -> completeLogin(loginRequestDto, userInfo));
+    }
+
+    private CompletableFuture<LoginResponseDto> completeLogin(LoginRequestDto loginRequestDto, SocialUserInfo userInfo) {
         Optional<User> findUser = userRepository.findBySocialId(userInfo.socialId());
-        if (findUser.isEmpty()) {
-            User newUser = saveNewDatas(loginRequestDto, userInfo);
-            saveOrUpdateFcmToken(newUser.getId(), loginRequestDto);
-            return createLoginResponse(newUser.getId(), true);
+        boolean isNewUser = findUser.isEmpty();
+        User user = findUser.orElseGet(() -> saveNewDatas(loginRequestDto, userInfo));
+        Long userId = user.getId();
+        if (!isNewUser) {
+            CompletableFuture.runAsync(() -> updateImage(user, userInfo), loginExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Failed to update profile image of user {}", userId, e);
+                        return null;
+                    });
         }
-        updateImage(findUser.get(),userInfo);
-        saveOrUpdateFcmToken(findUser.get().getId(), loginRequestDto);
-        return createLoginResponse(findUser.get().getId(), false);
+
+        CompletableFuture<TokenPair> tokenPair = CompletableFuture
+                .supplyAsync(() -> jwtService.generateTokenPair(String.valueOf(userId)), loginExecutor);
+        CompletableFuture<Void> fcmToken = CompletableFuture
+                .runAsync(() -> saveOrUpdateFcmToken(userId, loginRequestDto), loginExecutor);
+        return tokenPair.thenCombine(fcmToken,
+                        (issuedTokenPair, ignored) -> AuthDtoConverter.toLoginDto(issuedTokenPair, userId, isNewUser))
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        discardIssuedSession(tokenPair, userId);
+                    }
+                });
     }
+
+    // 토큰은 발급됐지만 FCM 토큰 저장이 실패해 로그인이 실패하면, 클라이언트가 받지 못한 리프레시 세션을 지운다.
+    private void discardIssuedSession(CompletableFuture<TokenPair> tokenPair, Long userId) {
+        tokenPair.thenAccept(issuedTokenPair -> jwtService.deleteRefreshSession(issuedTokenPair.refreshToken()))
+                .exceptionally(e -> {
+                    log.warn("Failed to discard refresh session of user {}", userId, e);
+                    return null;
+                });
+    }
+
     private void saveOrUpdateFcmToken(Long userId, LoginRequestDto requestDto) {
 
         Optional<Mobile> existingMobile = mobileRepository.findByUserId(userId);
@@ -90,34 +139,16 @@ public class AuthService {
         }
     }
 
-    private LoginResponseDto createLoginResponse(Long userId, boolean isNewUser) {
-        TokenPair tokenPair = jwtService.generateTokenPair(String.valueOf(userId));
-        return AuthDtoConverter.toLoginDto(tokenPair, userId, isNewUser);
-    }
-
-    public void logout(final Long userId) {
+    public void logout(final Long userId, final String accessToken) {
         userValidator.checkIsExistUser(userId);
-        jwtService.deleteRefreshToken(String.valueOf(userId));
+        jwtService.revokeSession(accessToken);
     }
 
     public TokenPair refresh(final ReissueTokenRequestDto reissueTokenRequestDto) {
-        checkIsValidToken(reissueTokenRequestDto.getRefreshToken());
-
-        final String userId = jwtService.getUserIdInToken(reissueTokenRequestDto.getRefreshToken());
-        userValidator.checkIsExistUser(Long.parseLong(userId));
-
-        final TokenPair tokenPair = jwtService.generateTokenPair(userId);
-        jwtService.saveRefreshToken(userId, tokenPair.refreshToken());
+        final String refreshToken = reissueTokenRequestDto.getRefreshToken();
+        final JwtService.RefreshSession session = jwtService.getRefreshSession(refreshToken);
+        userValidator.checkIsExistUser(Long.parseLong(session.userId()));
 
-        return tokenPair;
-    }
-
-    private void checkIsValidToken(String refreshToken) {
-        try {
-            jwtService.verifyToken(refreshToken);
-            jwtService.compareRefreshToken(jwtService.getUserIdInToken(refreshToken), refreshToken);
-        } catch (Exception e) {
-            throw e;
-        }
+        return jwtService.rotateTokenPair(session, refreshToken);
     }
 }
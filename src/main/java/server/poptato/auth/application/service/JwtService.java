@@ -1,6 +1,9 @@
 package server.poptato.auth.application.service;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -10,12 +13,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import server.poptato.auth.exception.AuthException;
+import server.poptato.auth.infra.AccessTokenRevocationStore;
+import server.poptato.auth.infra.RefreshTokenStore;
 import server.poptato.global.dto.TokenPair;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static server.poptato.auth.exception.errorcode.AuthExceptionErrorCode.INVALID_TOKEN;
@@ -28,43 +36,123 @@ public class JwtService {
     @Value("${jwt.secret}")
     private String jwtSecret;
     private static final String USER_ID = "USER_ID";
+    private static final String SESSION_ID = "SESSION_ID";
     private static final String ACCESS_TOKEN = "ACCESS_TOKEN";
     private static final String REFRESH_TOKEN = "REFRESH_TOKEN";
     public static final int MINUTE_IN_MILLISECONDS = 60 * 1000;
     public static final long DAYS_IN_MILLISECONDS = 24 * 60 * 60 * 1000L;
     public static final int ACCESS_TOKEN_EXPIRATION_MINUTE = 20;
     public static final int REFRESH_TOKEN_EXPIRATION_DAYS = 14;
+    private static final int VERIFIED_TOKEN_CACHE_MAX_SIZE = 10_000;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenRevocationStore accessTokenRevocationStore;
+    private Key signingKey;
+    private JwtParser jwtParser;
+    // 검증을 마친 토큰의 해시 -> userId, 각 항목은 토큰의 exp 시각에 만료된다.
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_MAX_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    return value.remainingNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return value.remainingNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     @PostConstruct
     protected void init() {
         jwtSecret = Base64.getEncoder()
                 .encodeToString(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String createAccessToken(final String userId) {
+        return createAccessToken(userId, null);
+    }
+
+    /**
+     * 액세스 토큰에 기기 세션 id 를 함께 넣어, 로그아웃 시 해당 세션의 토큰만 폐기할 수 있게 한다.
+     */
+    public String createAccessToken(final String userId, final String sessionId) {
         final Claims claims = getAccessTokenClaims();
 
         claims.put(USER_ID, userId);
+        if (sessionId != null) {
+            claims.put(SESSION_ID, sessionId);
+        }
         return createToken(claims);
     }
 
-    public String createRefreshToken(final String userId) {
-        final Claims claims = getRefreshTokenClaims();
+    public void verifyToken(final String token) {
+        getVerifiedBody(token);
+    }
 
-        claims.put(USER_ID, userId);
-        return createToken(claims);
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료를 검증하고 userId 를 꺼낸다.
+     * 최근에 검증한 토큰은 캐시된 결과를 사용하고, 폐기 여부는 캐시와 관계없이 매번 확인한다.
+     */
+    public String verifyAndGetUserId(final String token) {
+        final String tokenHash = hash(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+        if (verifiedToken == null || verifiedToken.isExpired()) {
+            final Claims claims = getVerifiedBody(token);
+            final long issuedAtMillis = claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime();
+            verifiedToken = new VerifiedToken((String) claims.get(USER_ID), (String) claims.get(SESSION_ID), issuedAtMillis,
+                    claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime());
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, verifiedToken);
+            }
+        }
+        checkIsNotRevoked(verifiedToken);
+        return verifiedToken.userId();
     }
 
-    public void verifyToken(final String token) {
+    /**
+     * 유저의 리프레시 토큰 세션을 모두 지우고, 이미 발급된 액세스 토큰도 폐기한다. 탈퇴할 때만 사용한다.
+     */
+    public void revokeAllTokens(final String userId) {
+        deleteRefreshToken(userId);
+        accessTokenRevocationStore.revokeAll(Long.parseLong(userId));
+    }
+
+    /**
+     * 액세스 토큰이 속한 기기 세션 하나만 폐기한다. 같은 유저의 다른 기기 세션과 액세스 토큰은 유지된다.
+     * 세션 id 가 없는 (세션 도입 전에 발급된) 토큰은 어느 세션인지 알 수 없으므로 유저의 토큰을 모두 폐기한다.
+     */
+    public void revokeSession(final String accessToken) {
+        final Claims claims = getVerifiedBody(accessToken);
+        final String userId = (String) claims.get(USER_ID);
+        final String sessionId = (String) claims.get(SESSION_ID);
+        if (sessionId == null) {
+            revokeAllTokens(userId);
+            return;
+        }
+        refreshTokenStore.delete(userId, sessionId);
+        accessTokenRevocationStore.revokeSession(sessionId);
+    }
+
+    private void checkIsNotRevoked(final VerifiedToken verifiedToken) {
         try {
-            final Claims claims = getBody(token);
-        } catch (ExpiredJwtException e) {
-            throw new AuthException(TOKEN_TIME_EXPIRED);
-        } catch (UnsupportedJwtException | SignatureException | MalformedJwtException  e){
+            if (accessTokenRevocationStore.isRevoked(Long.parseLong(verifiedToken.userId()), verifiedToken.sessionId(),
+                    verifiedToken.issuedAtMillis())) {
+                throw new AuthException(INVALID_TOKEN);
+            }
+        } catch (NumberFormatException e) {
             throw new AuthException(INVALID_TOKEN);
-        } catch (RuntimeException e) {
-            throw e;
         }
     }
 
@@ -73,37 +161,81 @@ public class JwtService {
         return (String) claims.get(USER_ID);
     }
 
+    /**
+     * 새 기기 세션을 만들고 토큰 쌍을 발급한다. 한 유저가 여러 기기에서 동시에 로그인해 있을 수 있다.
+     */
     public TokenPair generateTokenPair(final String userId) {
-        final String accessToken = createAccessToken(userId);
-        final String refreshToken = createRefreshToken(userId);
-        saveRefreshToken(userId, refreshToken);
+        final String sessionId = UUID.randomUUID().toString();
+        final String accessToken = createAccessToken(userId, sessionId);
+        final Claims refreshTokenClaims = getRefreshTokenClaims(userId, sessionId);
+        final String refreshToken = createToken(refreshTokenClaims);
+        refreshTokenStore.save(userId, sessionId, hash(refreshToken), refreshTokenClaims.getExpiration().getTime());
         return new TokenPair(accessToken, refreshToken);
     }
 
-    public void compareRefreshToken(final String userId, final String refreshToken) {
-        final String storedRefreshToken = redisTemplate.opsForValue().get(userId);
-        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken))
+    public RefreshSession getRefreshSession(final String refreshToken) {
+        final Claims claims = getVerifiedBody(refreshToken);
+        return new RefreshSession((String) claims.get(USER_ID), (String) claims.get(SESSION_ID));
+    }
+
+    /**
+     * 리프레시 토큰을 같은 세션의 새 토큰으로 교체한다. 저장된 토큰과 다르면(이미 교체된 토큰이면) 예외가 발생한다.
+     */
+    public TokenPair rotateTokenPair(final RefreshSession session, final String refreshToken) {
+        if (session.sessionId() == null) {
+            return rotateLegacyTokenPair(session.userId(), refreshToken);
+        }
+        final String accessToken = createAccessToken(session.userId(), session.sessionId());
+        final Claims refreshTokenClaims = getRefreshTokenClaims(session.userId(), session.sessionId());
+        final String newRefreshToken = createToken(refreshTokenClaims);
+        final boolean rotated = refreshTokenStore.rotate(session.userId(), session.sessionId(),
+                hash(refreshToken), hash(newRefreshToken), refreshTokenClaims.getExpiration().getTime());
+        if (!rotated) {
+            throw new AuthException(INVALID_TOKEN);
+        }
+        return new TokenPair(accessToken, newRefreshToken);
+    }
+
+    // 세션 도입 전에 발급되어 userId 키에 그대로 저장된 토큰은 한 번만 새 세션으로 옮겨 준다.
+    private TokenPair rotateLegacyTokenPair(final String userId, final String refreshToken) {
+        final String storedRefreshToken = redisTemplate.opsForValue().getAndDelete(userId);
+        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
             throw new AuthException(INVALID_TOKEN);
+        }
+        return generateTokenPair(userId);
     }
 
-    public void saveRefreshToken(final String userId, final String refreshToken) {
-        redisTemplate.opsForValue().set(userId, refreshToken, REFRESH_TOKEN_EXPIRATION_DAYS, TimeUnit.DAYS);
+    /**
+     * 리프레시 토큰이 속한 기기 세션 하나만 폐기한다. 같은 유저의 다른 기기 세션은 유지된다.
+     */
+    public void deleteRefreshSession(final String refreshToken) {
+        final RefreshSession session = getRefreshSession(refreshToken);
+        refreshTokenStore.delete(session.userId(), session.sessionId());
+    }
+
+    public void deleteRefreshToken(final String userId) {
+        refreshTokenStore.deleteAll(userId);
+        redisTemplate.delete(userId);
     }
 
     private String createToken(final Claims claims) {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    private Claims getRefreshTokenClaims() {
+    private Claims getRefreshTokenClaims(final String userId, final String sessionId) {
         final Date now = new Date();
-        return Jwts.claims()
+        final Claims claims = Jwts.claims()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(REFRESH_TOKEN)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION_DAYS * DAYS_IN_MILLISECONDS));
+        claims.put(USER_ID, userId);
+        claims.put(SESSION_ID, sessionId);
+        return claims;
     }
 
     private Claims getAccessTokenClaims() {
@@ -114,20 +246,41 @@ public class JwtService {
                 .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION_MINUTE * MINUTE_IN_MILLISECONDS));
     }
 
+    private Claims getVerifiedBody(final String token) {
+        try {
+            return getBody(token);
+        } catch (ExpiredJwtException e) {
+            throw new AuthException(TOKEN_TIME_EXPIRED);
+        } catch (UnsupportedJwtException | SignatureException | MalformedJwtException  e){
+            throw new AuthException(INVALID_TOKEN);
+        }
+    }
+
     private Claims getBody(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Key getSigningKey() {
-        final byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String hash(final String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-    public void deleteRefreshToken(final String userId) {
-        redisTemplate.delete(userId);
+    private record VerifiedToken(String userId, String sessionId, long issuedAtMillis, long expiresAtMillis) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+        long remainingNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+    }
+
+    public record RefreshSession(String userId, String sessionId) {
     }
 }
@@ -0,0 +1,171 @@
+package server.poptato.auth.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.poptato.external.redis.RedisBroadcaster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static server.poptato.auth.application.service.JwtService.ACCESS_TOKEN_EXPIRATION_MINUTE;
+import static server.poptato.auth.application.service.JwtService.MINUTE_IN_MILLISECONDS;
+
+/**
+ * 로그아웃한 기기 세션, 탈퇴한 유저의 액세스 토큰을 만료 전에 막는다.
+ * Redis sorted set (revoked:access-token) 에 userId 또는 "session:{sessionId}" 를 폐기 시각을 점수로 저장하고,
+ * 그 시각 이전에 발급된 토큰을 거부한다.
+ * 각 노드는 폐기 목록으로 만든 Bloom filter 를 들고 있어 대부분의 요청은 메모리에서 끝나고,
+ * Bloom filter 가 있을 수도 있다고 답할 때만 Redis 에서 폐기 시각을 확인한다.
+ * Bloom filter 를 다시 만드는 동안 들어온 폐기는 기록해 두었다가 새 Bloom filter 로 바꾸기 직전에 다시 적용한다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationStore {
+    private static final String REVOKED_KEY = "revoked:access-token";
+    private static final String REVOCATION_CHANNEL = "token:revocation";
+    private static final String SESSION_MEMBER_PREFIX = "session:";
+    // 액세스 토큰 수명이 지난 폐기 기록은 더 이상 막을 토큰이 없다.
+    private static final long RETENTION_MILLIS = (long) ACCESS_TOKEN_EXPIRATION_MINUTE * MINUTE_IN_MILLISECONDS;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisBroadcaster redisBroadcaster;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    private final Counter negativeChecks;
+    private final Counter falsePositiveChecks;
+    private final Counter issuedAfterRevocationChecks;
+    private final Counter revokedChecks;
+    private final Object lock = new Object();
+    private volatile BloomFilter revokedMembers;
+    // Bloom filter 를 다시 만드는 중일 때만 존재한다.
+    private List<String> revocationsDuringSync;
+    private volatile long lastSyncedAtMillis;
+
+    public AccessTokenRevocationStore(RedisTemplate<String, String> redisTemplate,
+                                      RedisBroadcaster redisBroadcaster,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${token.revocation.expected-revocations:10000}") int expectedRevocations,
+                                      @Value("${token.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.redisBroadcaster = redisBroadcaster;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedMembers = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.negativeChecks = checkCounter(meterRegistry, "negative");
+        this.falsePositiveChecks = checkCounter(meterRegistry, "false_positive");
+        this.issuedAfterRevocationChecks = checkCounter(meterRegistry, "issued_after_revocation");
+        this.revokedChecks = checkCounter(meterRegistry, "revoked");
+        Gauge.builder("token.revocation.sync.lag", this, store -> System.currentTimeMillis() - store.lastSyncedAtMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        redisBroadcaster.subscribe(REVOCATION_CHANNEL, this::addToFilter);
+    }
+
+    /**
+     * 지금까지 발급된 해당 유저의 액세스 토큰을 모두 폐기한다.
+     */
+    public void revokeAll(Long userId) {
+        revoke(String.valueOf(userId));
+    }
+
+    /**
+     * 지금까지 발급된 해당 기기 세션의 액세스 토큰만 폐기한다.
+     */
+    public void revokeSession(String sessionId) {
+        revoke(SESSION_MEMBER_PREFIX + sessionId);
+    }
+
+    /**
+     * 유저 전체가 폐기되었거나 토큰이 속한 기기 세션이 폐기되었으면 true 를 반환한다. 세션 id 가 없는 토큰은 유저 단위로만 확인한다.
+     */
+    public boolean isRevoked(Long userId, String sessionId, long issuedAtMillis) {
+        return isRevoked(String.valueOf(userId), issuedAtMillis)
+                || (sessionId != null && isRevoked(SESSION_MEMBER_PREFIX + sessionId, issuedAtMillis));
+    }
+
+    private void revoke(String member) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(REVOKED_KEY, member, now);
+        addToFilter(member);
+        redisBroadcaster.publish(REVOCATION_CHANNEL, member);
+    }
+
+    // 발행한 노드도 같은 메시지를 받지만, Bloom filter 에는 여러 번 넣어도 결과가 같다.
+    private void addToFilter(String member) {
+        synchronized (lock) {
+            revokedMembers.add(member);
+            if (revocationsDuringSync != null) {
+                revocationsDuringSync.add(member);
+            }
+        }
+    }
+
+    /**
+     * 토큰의 iat 는 초 단위이므로, 폐기 시각과 같은 초에 발급된 토큰은 폐기 이후에 발급된 것으로 본다.
+     */
+    private boolean isRevoked(String member, long issuedAtMillis) {
+        if (!revokedMembers.mightContain(member)) {
+            negativeChecks.increment();
+            return false;
+        }
+        Double revokedAtMillis = redisTemplate.opsForZSet().score(REVOKED_KEY, member);
+        if (revokedAtMillis == null) {
+            falsePositiveChecks.increment();
+            return false;
+        }
+        // 폐기된 유저가 다시 로그인해 받은 토큰은 Bloom filter 의 오탐이 아니므로 따로 센다.
+        if (issuedAtMillis >= revokedAtMillis.longValue() / 1000 * 1000) {
+            issuedAfterRevocationChecks.increment();
+            return false;
+        }
+        revokedChecks.increment();
+        return true;
+    }
+
+    /**
+     * Redis 의 폐기 목록으로 Bloom filter 를 다시 만든다. 수명이 지난 기록은 이때 함께 지운다.
+     */
+    @Scheduled(fixedDelayString = "${token.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        List<String> revocations = new ArrayList<>();
+        synchronized (lock) {
+            revocationsDuringSync = revocations;
+        }
+        try {
+            long horizon = System.currentTimeMillis() - RETENTION_MILLIS;
+            ZSetOperations<String, String> revokedSet = redisTemplate.opsForZSet();
+            revokedSet.removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, horizon);
+            Set<String> members = revokedSet.rangeByScore(REVOKED_KEY, horizon, Double.POSITIVE_INFINITY);
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, members == null ? 0 : members.size()), falsePositiveRate);
+            if (members != null) {
+                members.forEach(rebuilt::add);
+            }
+            synchronized (lock) {
+                revocations.forEach(rebuilt::add);
+                revokedMembers = rebuilt;
+            }
+            lastSyncedAtMillis = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            log.warn("Failed to sync access token revocations", e);
+        } finally {
+            synchronized (lock) {
+                revocationsDuringSync = null;
+            }
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("token.revocation.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,60 @@
+package server.poptato.auth.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키를 위한 Bloom filter. 없다고 답하면 확실히 없고, 있다고 답하면 expectedFalsePositiveRate 확률로 틀릴 수 있다.
+ * 비트는 AtomicLongArray 에 담아, 매 요청마다 불리는 mightContain 이 락 없이 add 와 동시에 실행될 수 있게 한다.
+ */
+class BloomFilter {
+    private final AtomicLongArray words;
+    private final int bitSize;
+    private final int hashCount;
+
+    BloomFilter(int expectedInsertions, double expectedFalsePositiveRate) {
+        int insertions = Math.max(1, expectedInsertions);
+        this.bitSize = (int) Math.max(64, Math.ceil(-insertions * Math.log(expectedFalsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.words = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    void add(String key) {
+        long hash = hash(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = indexOf(hash1 + i * hash2);
+            words.getAndAccumulate(index / Long.SIZE, 1L << index, (word, bit) -> word | bit);
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = indexOf(hash1 + i * hash2);
+            if ((words.get(index / Long.SIZE) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(int combinedHash) {
+        return Math.floorMod(combinedHash, bitSize);
+    }
+
+    // 64비트 FNV-1a 로 키를 한 번 해시한 뒤, SplitMix64 의 마무리 단계로 연속된 id 도 비트가 고르게 퍼지게 한다.
+    private static long hash(String key) {
+        long z = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            z = (z ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,102 @@
+package server.poptato.auth.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 유저별 Redis hash 에 기기 세션마다 리프레시 토큰의 해시를 저장한다. (refresh:{userId} -> sessionId -> "tokenHash:expiresAtMillis")
+ * Redis hash 필드에는 TTL 을 걸 수 없어 만료 시각을 값에 함께 넣고, 스크립트가 실행될 때마다 만료된 세션을 정리한 뒤
+ * 남은 세션 중 가장 늦은 만료 시각을 키의 만료 시각으로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+    private static final String KEY_PREFIX = "refresh:";
+    static final int MAX_SESSIONS_PER_USER = 10;
+
+    // 만료된 세션을 지우고, 세션 수가 상한을 넘으면 가장 먼저 만료되는 세션부터 지운 뒤 키의 만료 시각을 맞춘다.
+    private static final String PRUNE_SESSIONS = """
+            local function prune(key, now, maxSessions)
+              local entries = redis.call('HGETALL', key)
+              local alive = {}
+              local latest = 0
+              for i = 1, #entries, 2 do
+                local expiresAt = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+                if expiresAt == nil or expiresAt <= now then
+                  redis.call('HDEL', key, entries[i])
+                else
+                  table.insert(alive, {entries[i], expiresAt})
+                  if expiresAt > latest then latest = expiresAt end
+                end
+              end
+              if #alive > maxSessions then
+                table.sort(alive, function(a, b) return a[2] < b[2] end)
+                for i = 1, #alive - maxSessions do
+                  redis.call('HDEL', key, alive[i][1])
+                end
+              end
+              if latest > 0 then redis.call('PEXPIREAT', key, latest) end
+            end
+            """;
+
+    // ARGV: sessionId, tokenHash, expiresAtMillis, nowMillis, maxSessions
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(PRUNE_SESSIONS + """
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. ARGV[3])
+            prune(KEYS[1], tonumber(ARGV[4]), tonumber(ARGV[5]))
+            return 1
+            """, Long.class);
+
+    // ARGV: sessionId, expectedTokenHash, newTokenHash, newExpiresAtMillis, nowMillis, maxSessions
+    // 저장된 해시와 다르면 이미 교체된 토큰이 재사용된 것이므로 해당 세션을 폐기한다.
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(PRUNE_SESSIONS + """
+            local stored = redis.call('HGET', KEYS[1], ARGV[1])
+            if not stored then return 0 end
+            local storedHash, expiresAt = string.match(stored, '^(.*):(%d+)$')
+            if storedHash ~= ARGV[2] or tonumber(expiresAt) <= tonumber(ARGV[5]) then
+              redis.call('HDEL', KEYS[1], ARGV[1])
+              return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. ':' .. ARGV[4])
+            prune(KEYS[1], tonumber(ARGV[5]), tonumber(ARGV[6]))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(String userId, String sessionId, String tokenHash, long expiresAtMillis) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)),
+                sessionId, tokenHash, String.valueOf(expiresAtMillis),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(MAX_SESSIONS_PER_USER));
+    }
+
+    /**
+     * 저장된 토큰 해시가 expectedTokenHash 와 같을 때만 새 해시로 교체한다. 비교와 교체는 하나의 스크립트로 원자적으로 실행된다.
+     */
+    public boolean rotate(String userId, String sessionId, String expectedTokenHash, String newTokenHash, long newExpiresAtMillis) {
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(userId)),
+                sessionId, expectedTokenHash, newTokenHash, String.valueOf(newExpiresAtMillis),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(MAX_SESSIONS_PER_USER));
+        return rotated != null && rotated == 1L;
+    }
+
+    public long countSessions(String userId) {
+        return redisTemplate.opsForHash().size(key(userId));
+    }
+
+    public void delete(String userId, String sessionId) {
+        redisTemplate.opsForHash().delete(key(userId), sessionId);
+    }
+
+    public void deleteAll(String userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,84 @@
+package server.poptato.category.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
+import server.poptato.external.redis.RedisBroadcaster;
+import server.poptato.global.transaction.AfterCommitExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기본 카테고리(전체, 중요)는 변하지 않으므로 한 번 읽어 불변 스냅샷으로 들고,
+ * 사용자별 카테고리는 크기가 제한된 캐시에 둔다. 카테고리 변경 시 커밋 이후 다른 서버에도 무효화를 전파한다.
+ */
+@Component
+public class CategoryCatalog {
+    private static final Long DEFAULT_CATEGORY_USER_ID = -1L;
+    private static final String CATEGORY_INVALIDATION_CHANNEL = "category:invalidation";
+    private static final long MAX_USER_ENTRIES = 10_000;
+    // 무효화 메시지를 놓친 노드도 이 시간이 지나면 DB 에서 다시 읽는다.
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
+    private final CategoryRepository categoryRepository;
+    private final RedisBroadcaster redisBroadcaster;
+    private final Cache<Long, List<CategorySnapshot>> userCategories = Caffeine.newBuilder()
+            .maximumSize(MAX_USER_ENTRIES)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+    private volatile List<CategorySnapshot> defaultCategories;
+
+    public CategoryCatalog(CategoryRepository categoryRepository, RedisBroadcaster redisBroadcaster) {
+        this.categoryRepository = categoryRepository;
+        this.redisBroadcaster = redisBroadcaster;
+        redisBroadcaster.subscribe(CATEGORY_INVALIDATION_CHANNEL, userId -> userCategories.invalidate(Long.valueOf(userId)));
+    }
+
+    public Optional<CategorySnapshot> find(Long userId, Long categoryId) {
+        return getDefaultCategories().stream()
+                .filter(category -> category.id().equals(categoryId))
+                .findFirst()
+                .or(() -> getUserCategories(userId).stream()
+                        .filter(category -> category.id().equals(categoryId))
+                        .findFirst());
+    }
+
+    public int countCategories(Long userId) {
+        return getDefaultCategories().size() + getUserCategories(userId).size();
+    }
+
+    public void refresh(Long userId) {
+        userCategories.invalidate(userId);
+    }
+
+    public void invalidate(Long userId) {
+        AfterCommitExecutor.execute(() -> {
+            userCategories.invalidate(userId);
+            redisBroadcaster.publish(CATEGORY_INVALIDATION_CHANNEL, String.valueOf(userId));
+        });
+    }
+
+    private List<CategorySnapshot> getUserCategories(Long userId) {
+        return userCategories.get(userId, this::loadCategories);
+    }
+
+    private List<CategorySnapshot> getDefaultCategories() {
+        List<CategorySnapshot> snapshot = defaultCategories;
+        if (snapshot == null) {
+            snapshot = loadCategories(DEFAULT_CATEGORY_USER_ID);
+            defaultCategories = snapshot;
+        }
+        return snapshot;
+    }
+
+    private List<CategorySnapshot> loadCategories(Long userId) {
+        return categoryRepository.findByUserIdOrderByCategoryOrderAsc(userId)
+                .stream()
+                .map(CategorySnapshot::from)
+                .toList();
+    }
+}
@@ -0,0 +1,100 @@
+package server.poptato.category.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import server.poptato.category.domain.entity.CategoryPurge;
+import server.poptato.category.domain.repository.CategoryPurgeRepository;
+import server.poptato.global.purge.ChunkedPurger;
+import server.poptato.todo.application.CompletionStatisticsService;
+import server.poptato.todo.application.HistoryCache;
+import server.poptato.todo.domain.repository.ArchivedCompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletionCalendarRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제된 카테고리의 할 일과 달성 기록을 백그라운드에서 chunk 단위로 지운다.
+ * 카테고리마다 달력과 통계를 다시 만들도록 초기화한 뒤에 purge 요청을 지운다.
+ * 지운 달성 기록 수로 초기화 여부를 정하면, 기록을 다 지운 뒤 초기화 전에 실패한 요청을 다시 처리할 때 초기화를 건너뛰게 된다.
+ */
+@Slf4j
+@Service
+public class CategoryPurgeService {
+    private static final String JOB = "category";
+
+    private final CategoryPurgeRepository categoryPurgeRepository;
+    private final CompletionCalendarRepository completionCalendarRepository;
+    private final CompletionStatisticsService completionStatisticsService;
+    private final HistoryCache historyCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ChunkedPurger chunkedPurger;
+    private final List<ChunkedPurger.Step> completionSteps;
+    private final List<ChunkedPurger.Step> todoSteps;
+    private final AtomicLong pendingPurges = new AtomicLong();
+    private final Counter completedPurges;
+
+    public CategoryPurgeService(CategoryPurgeRepository categoryPurgeRepository,
+                                CompletionCalendarRepository completionCalendarRepository,
+                                CompletionStatisticsService completionStatisticsService,
+                                HistoryCache historyCache,
+                                TransactionTemplate transactionTemplate,
+                                ChunkedPurger chunkedPurger,
+                                MeterRegistry meterRegistry,
+                                CompletedDateTimeRepository completedDateTimeRepository,
+                                ArchivedCompletedDateTimeRepository archivedCompletedDateTimeRepository,
+                                TodoRepository todoRepository) {
+        this.categoryPurgeRepository = categoryPurgeRepository;
+        this.completionCalendarRepository = completionCalendarRepository;
+        this.completionStatisticsService = completionStatisticsService;
+        this.historyCache = historyCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkedPurger = chunkedPurger;
+        this.completionSteps = List.of(
+                chunkedPurger.chunked("completed_date_time", completedDateTimeRepository::findIdsByCategoryId, completedDateTimeRepository::deleteByIdIn),
+                chunkedPurger.chunked("archived_completed_date_time", archivedCompletedDateTimeRepository::findIdsByCategoryId, archivedCompletedDateTimeRepository::deleteByIdIn)
+        );
+        this.todoSteps = List.of(
+                chunkedPurger.chunked("todo", todoRepository::findIdsByCategoryId, todoRepository::deleteByIdIn)
+        );
+        this.completedPurges = Counter.builder("purge.completed").tag("job", JOB).register(meterRegistry);
+        Gauge.builder("purge.pending", pendingPurges, AtomicLong::get).tag("job", JOB).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${category.purge.interval-ms:5000}")
+    public void purgePendingCategories() {
+        try {
+            for (CategoryPurge categoryPurge : categoryPurgeRepository.findTop10ByOrderByIdAsc()) {
+                purge(categoryPurge.getUserId(), categoryPurge.getCategoryId());
+                transactionTemplate.executeWithoutResult(status -> categoryPurgeRepository.delete(categoryPurge));
+                completedPurges.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Category purge stopped and will resume on the next run", e);
+        } finally {
+            pendingPurges.set(categoryPurgeRepository.count());
+        }
+    }
+
+    public void purge(Long userId, Long categoryId) {
+        long deletedCompletions = chunkedPurger.purge(JOB, categoryId, completionSteps);
+        long deletedTodos = chunkedPurger.purge(JOB, categoryId, todoSteps);
+        resetCompletions(userId);
+        log.info("Purged {} todos and {} completions of deleted category {}", deletedTodos, deletedCompletions, categoryId);
+    }
+
+    private void resetCompletions(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            completionCalendarRepository.deleteAllByUserId(userId);
+            completionStatisticsService.rebuild(userId);
+            historyCache.evictUserAfterCommit(userId);
+        });
+    }
+}
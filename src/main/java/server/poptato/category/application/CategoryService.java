@@ -2,7 +2,6 @@ package server.poptato.category.application;
 
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,13 +11,14 @@ import server.poptato.category.application.response.CategoryCreateResponseDto;
 import server.poptato.category.application.response.CategoryListResponseDto;
 import server.poptato.category.application.response.CategoryResponseDto;
 import server.poptato.category.domain.entity.Category;
+import server.poptato.category.domain.entity.CategoryPurge;
+import server.poptato.category.domain.repository.CategoryPurgeRepository;
 import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.exception.CategoryException;
 import server.poptato.category.validator.CategoryValidator;
-import server.poptato.emoji.domain.repository.EmojiRepository;
 import server.poptato.emoji.validator.EmojiValidator;
+import server.poptato.external.s3.service.S3Service;
 import server.poptato.todo.domain.entity.Todo;
-import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 import server.poptato.todo.exception.TodoException;
@@ -29,7 +29,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static server.poptato.category.exception.errorcode.CategoryExceptionErrorCode.*;
 
@@ -41,8 +40,9 @@ public class CategoryService {
     private final UserValidator userValidator;
     private final EmojiValidator emojiValidator;
     private final CategoryValidator categoryValidator;
-    private final EmojiRepository emojiRepository;
-    private final TodoRepository todoRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final CategoryPurgeRepository categoryPurgeRepository;
+    private final S3Service s3Service;
 
     private static final Long ALL_CATEGORY = -1L;
     private static final Long BOOKMARK_CATEGORY = 0L;
@@ -53,25 +53,20 @@ public class CategoryService {
         int maxCategoryId = categoryRepository.findMaxCategoryOrderByUserId(userId).orElseThrow(
                 ()->new CategoryException(DEFAULT_CATEGORY_NOT_EXIST));
         Category newCategory = categoryRepository.save(Category.create(userId,maxCategoryId,request));
+        categoryCatalog.invalidate(userId);
         return CategoryCreateResponseDto.builder().categoryId(newCategory.getId()).build();
     }
 
     public CategoryListResponseDto getCategories(Long userId, int page, int size) {
         userValidator.checkIsExistUser(userId);
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Category> categories = categoryRepository.findCategories(userId, pageRequest);
-        return convertToCategoryListDto(categories);
-    }
-
-    private CategoryListResponseDto convertToCategoryListDto(Page<Category> categories) {
-        List<CategoryResponseDto> categoryResponseDtoList = categories.stream()
-                .map(category -> {
-                    String imageUrl = emojiRepository.findImageUrlById(category.getEmojiId());
-                    return new CategoryResponseDto(category, imageUrl);
-                })
-                .collect(Collectors.toList());
-
-        return new CategoryListResponseDto(categoryResponseDtoList, categories.getTotalPages());
+        List<CategoryResponseDto> categories = categoryRepository.findCategories(userId, pageRequest)
+                .stream()
+                .map(category -> new CategoryResponseDto(category.getId(), category.getName(), category.getEmojiId(),
+                        s3Service.getDisplayUrl(category.getImageUrl())))
+                .toList();
+        int totalPageCount = (int) Math.ceil((double) categoryCatalog.countCategories(userId) / size);
+        return new CategoryListResponseDto(categories, totalPageCount);
     }
 
     public void updateCategory(Long userId, Long categoryId, CategoryCreateUpdateRequestDto updateRequestDto) {
@@ -80,13 +75,15 @@ public class CategoryService {
         Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
         category.update(updateRequestDto);
         categoryRepository.save(category);
+        categoryCatalog.invalidate(userId);
     }
 
     public void deleteCategory(Long userId, Long categoryId) {
         userValidator.checkIsExistUser(userId);
         Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
         categoryRepository.delete(category);
-        todoRepository.deleteAllByCategoryId(categoryId);
+        categoryPurgeRepository.save(CategoryPurge.create(userId, categoryId));
+        categoryCatalog.invalidate(userId);
     }
 
     public void dragAndDrop(Long userId, CategoryDragAndDropRequestDto request) {
@@ -94,6 +91,7 @@ public class CategoryService {
         List<Category> categories = getCategoriesByIds(request.getCategoryIds());
         checkIsValidToDragAndDrop(userId, categories, request);
         reassignCategoryOrder(categories, request.getCategoryIds());
+        categoryCatalog.invalidate(userId);
     }
 
     private List<Category> getCategoriesByIds(List<Long> categoryIds) {
@@ -1,7 +1,6 @@
 package server.poptato.category.application.response;
 
 import lombok.Getter;
-import server.poptato.category.domain.entity.Category;
 
 @Getter
 public class CategoryResponseDto {
@@ -11,10 +10,10 @@ public class CategoryResponseDto {
     Long emojiId;
     String imageUrl;
 
-    public CategoryResponseDto(Category category,String imageUrl) {
-        this.id = category.getId();
-        this.name = category.getName();
-        this.emojiId = category.getEmojiId();
+    public CategoryResponseDto(Long id, String name, Long emojiId, String imageUrl) {
+        this.id = id;
+        this.name = name;
+        this.emojiId = emojiId;
         this.imageUrl = imageUrl;
     }
 }
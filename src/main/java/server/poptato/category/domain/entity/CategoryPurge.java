@@ -0,0 +1,39 @@
+package server.poptato.category.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 카테고리에 남은 할 일과 달성 기록을 지우는 작업. 백그라운드 작업이 데이터를 모두 지우면 함께 삭제된다.
+ */
+@Getter
+@Entity
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_category_purge_category_id", columnNames = "category_id"))
+public class CategoryPurge {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @NotNull
+    private Long userId;
+    @NotNull
+    private Long categoryId;
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+
+    public static CategoryPurge create(Long userId, Long categoryId) {
+        return CategoryPurge.builder()
+                .userId(userId)
+                .categoryId(categoryId)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package server.poptato.category.domain.repository;
+
+import server.poptato.category.domain.entity.CategoryPurge;
+
+import java.util.List;
+
+public interface CategoryPurgeRepository {
+    CategoryPurge save(CategoryPurge categoryPurge);
+    List<CategoryPurge> findTop10ByOrderByIdAsc();
+    void delete(CategoryPurge categoryPurge);
+    long count();
+}
@@ -1,7 +1,7 @@
 package server.poptato.category.domain.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import server.poptato.category.application.response.CategoryResponseDto;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.todo.domain.entity.Todo;
 
@@ -14,13 +14,17 @@ public interface CategoryRepository {
 
     Category save(Category category);
 
-    Page<Category> findDefaultAndByUserIdOrderByCategoryOrder(Long userId, Pageable pageable);
+    List<CategoryResponseDto> findDefaultAndByUserIdOrderByCategoryOrder(Long userId, Pageable pageable);
 
     Optional<Category> findById(Long categoryId);
 
+    List<Category> findByUserIdOrderByCategoryOrderAsc(Long userId);
+
     void delete(Category category);
 
-    default Page<Category> findCategories(Long userId, Pageable pageable) {
+    default List<CategoryResponseDto> findCategories(Long userId, Pageable pageable) {
         return findDefaultAndByUserIdOrderByCategoryOrder(userId, pageable);
     }
+
+    int deleteAllByUserId(Long userId);
 }
@@ -0,0 +1,14 @@
+package server.poptato.category.domain.value;
+
+import server.poptato.category.domain.entity.Category;
+
+public record CategorySnapshot(Long id, Long userId, Long emojiId, int categoryOrder, String name) {
+    public static CategorySnapshot from(Category category) {
+        return new CategorySnapshot(
+                category.getId(),
+                category.getUserId(),
+                category.getEmojiId(),
+                category.getCategoryOrder(),
+                category.getName());
+    }
+}
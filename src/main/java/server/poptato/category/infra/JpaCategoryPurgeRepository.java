@@ -0,0 +1,8 @@
+package server.poptato.category.infra;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import server.poptato.category.domain.entity.CategoryPurge;
+import server.poptato.category.domain.repository.CategoryPurgeRepository;
+
+public interface JpaCategoryPurgeRepository extends CategoryPurgeRepository, JpaRepository<CategoryPurge, Long> {
+}
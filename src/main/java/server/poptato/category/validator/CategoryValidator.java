@@ -2,8 +2,10 @@ package server.poptato.category.validator;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import server.poptato.category.application.CategoryCatalog;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySnapshot;
 import server.poptato.category.exception.CategoryException;
 
 import static server.poptato.category.exception.errorcode.CategoryExceptionErrorCode.CATEGORY_NOT_EXIST;
@@ -13,17 +15,26 @@ import static server.poptato.category.exception.errorcode.CategoryExceptionError
 @RequiredArgsConstructor
 public class CategoryValidator {
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
 
     public Category validateAndReturnCategory(Long userId, Long categoryId) {
         Category findCategory = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CategoryException(CATEGORY_NOT_EXIST));
-        if (findCategory.getUserId() != userId && findCategory.getUserId() != -1L) throw new CategoryException(CATEGORY_USER_NOT_MATCH);
+        if (!isAccessible(userId, findCategory.getUserId())) throw new CategoryException(CATEGORY_USER_NOT_MATCH);
         return findCategory;
     }
 
-    public void validateCategory(Long userId, Long categoryId) {
-        Category findCategory = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new CategoryException(CATEGORY_NOT_EXIST));
-        if (findCategory.getUserId() != userId && findCategory.getUserId() != -1L) throw new CategoryException(CATEGORY_USER_NOT_MATCH);
+    public CategorySnapshot validateCategory(Long userId, Long categoryId) {
+        return categoryCatalog.find(userId, categoryId)
+                .orElseGet(() -> {
+                    // 캐시에 없으면 방금 생성된 카테고리일 수 있으므로 DB 에서 한 번 더 확인한다.
+                    Category findCategory = validateAndReturnCategory(userId, categoryId);
+                    categoryCatalog.refresh(userId);
+                    return CategorySnapshot.from(findCategory);
+                });
+    }
+
+    private boolean isAccessible(Long userId, Long categoryUserId) {
+        return categoryUserId.equals(userId) || categoryUserId.equals(-1L);
     }
 }
@@ -1,42 +1,107 @@
 package server.poptato.emoji.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import server.poptato.emoji.application.response.EmojiDTO;
 import server.poptato.emoji.application.response.EmojiResponseDTO;
 import server.poptato.emoji.domain.entity.Emoji;
 import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.exception.EmojiException;
+import server.poptato.external.s3.service.S3Service;
+import server.poptato.global.response.PrecomputedResponse;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static server.poptato.emoji.exception.errorcode.EmojiExceptionErrorCode.INVALID_PAGE;
+
 @Service
 @RequiredArgsConstructor
 public class EmojiService {
+    private static final long MAX_PAGE_RESPONSES = 100;
 
     private final EmojiRepository emojiRepository;
+    private final ObjectMapper objectMapper;
+    private final S3Service s3Service;
+    // 이모지 목록은 거의 바뀌지 않으므로 메모리에 들고, 페이지별 직렬화 결과도 다음 갱신 전까지 재사용한다.
+    // 이미지 URL 은 변형 이미지가 생기면 다음 갱신 때 표시 크기의 변형 URL 로 바뀐다.
+    private volatile List<GroupedEmoji> emojis;
+    private volatile Cache<PageKey, PrecomputedResponse> pageResponses = newPageResponses();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${static-catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${static-catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<GroupedEmoji> loadedEmojis = emojiRepository.findAllEmojis().stream()
+                .map(emoji -> GroupedEmoji.from(emoji, s3Service.getDisplayUrl(emoji.getImageUrl())))
+                .toList();
+        if (loadedEmojis.equals(emojis)) {
+            return;
+        }
+        emojis = loadedEmojis;
+        pageResponses = newPageResponses();
+    }
 
     public EmojiResponseDTO getGroupedEmojis(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Emoji> emojiPage = emojiRepository.findAllEmojis(pageRequest);
+        checkIsValidPage(page, size);
+        List<GroupedEmoji> allEmojis = getEmojis();
+        int fromIndex = (int) Math.min((long) page * size, allEmojis.size());
+        int toIndex = Math.min(fromIndex + size, allEmojis.size());
+
+        Map<String, List<EmojiDTO>> groupedEmojis = groupEmojisByGroupName(allEmojis.subList(fromIndex, toIndex));
+        int totalPageCount = (int) Math.ceil((double) allEmojis.size() / size);
 
-        Map<String, List<EmojiDTO>> groupedEmojis = groupEmojisByGroupName(emojiPage.getContent());
+        return new EmojiResponseDTO(groupedEmojis, totalPageCount);
+    }
+
+    public PrecomputedResponse getGroupedEmojisResponse(int page, int size) {
+        checkIsValidPage(page, size);
+        return pageResponses.get(new PageKey(page, size),
+                key -> PrecomputedResponse.of(objectMapper, getGroupedEmojis(page, size)));
+    }
 
-        return new EmojiResponseDTO(groupedEmojis, emojiPage.getTotalPages());
+    private void checkIsValidPage(int page, int size) {
+        if (page < 0 || size < 1) throw new EmojiException(INVALID_PAGE);
     }
 
-    private Map<String, List<EmojiDTO>> groupEmojisByGroupName(List<Emoji> emojis) {
+    private List<GroupedEmoji> getEmojis() {
+        if (emojis == null) {
+            refresh();
+        }
+        return emojis;
+    }
+
+    private Map<String, List<EmojiDTO>> groupEmojisByGroupName(List<GroupedEmoji> emojis) {
         return emojis.stream()
-                .filter(emoji -> emoji.getGroupName() != null)
+                .filter(emoji -> emoji.groupName() != null)
                 .collect(Collectors.groupingBy(
-                        emoji -> emoji.getGroupName().name(),
-                        Collectors.mapping(
-                                emoji -> new EmojiDTO(emoji.getId(), emoji.getImageUrl()),
-                                Collectors.toList()
-                        )
+                        GroupedEmoji::groupName,
+                        LinkedHashMap::new,
+                        Collectors.mapping(GroupedEmoji::emoji, Collectors.toList())
                 ));
     }
-}
\ No newline at end of file
+
+    private static Cache<PageKey, PrecomputedResponse> newPageResponses() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAX_PAGE_RESPONSES)
+                .build();
+    }
+
+    private record GroupedEmoji(String groupName, EmojiDTO emoji) {
+        private static GroupedEmoji from(Emoji emoji, String imageUrl) {
+            String groupName = emoji.getGroupName() == null ? null : emoji.getGroupName().name();
+            return new GroupedEmoji(groupName, new EmojiDTO(emoji.getId(), imageUrl));
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+}
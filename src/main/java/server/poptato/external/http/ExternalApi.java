@@ -0,0 +1,102 @@
+package server.poptato.external.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 제공자 하나에 대한 호출 창구. 공유 커넥션 풀 위에서 제공자별 타임아웃, 동시 호출 제한, 서킷 브레이커를 적용하고
+ * 호출 결과별 지연 시간을 external.http.client.requests 로 기록한다.
+ */
+public class ExternalApi {
+    private static final String METRIC_NAME = "external.http.client.requests";
+
+    private final String provider;
+    private final OkHttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCalls;
+
+    ExternalApi(String provider, OkHttpClient httpClient, int maxConcurrentCalls, CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.httpClient = httpClient;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCalls = Counter.builder("external.http.client.rejected")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    public String get(String url, Map<String, String> headers) {
+        Request.Builder request = new Request.Builder().url(url).get();
+        headers.forEach(request::header);
+        return execute(request.build());
+    }
+
+    private String execute(Request request) {
+        // 서킷이 시험 호출을 허락한 뒤 동시 호출 제한에 걸리면 결과가 보고되지 않아 HALF_OPEN 에 갇히므로, 동시 호출 제한을 먼저 확인한다.
+        if (!bulkhead.tryAcquire()) {
+            rejectedCalls.increment();
+            throw new ExternalApiException(provider, 0, "too many concurrent calls");
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            rejectedCalls.increment();
+            throw new ExternalApiException(provider, 0, "circuit breaker is open");
+        }
+        long startedAt = System.nanoTime();
+        String outcome = "IO_ERROR";
+        boolean reported = false;
+        try (Response response = httpClient.newCall(request).execute()) {
+            outcome = outcome(response.code());
+            reported = true;
+            if (response.code() >= 500) {
+                circuitBreaker.onFailure();
+                throw new ExternalApiException(provider, response.code(), "server error");
+            }
+            circuitBreaker.onSuccess();
+            if (!response.isSuccessful()) {
+                throw new ExternalApiException(provider, response.code(), "client error");
+            }
+            ResponseBody body = response.body();
+            return body == null ? "" : body.string();
+        } catch (IOException e) {
+            if (!reported) {
+                circuitBreaker.onFailure();
+            }
+            throw new ExternalApiException(provider, "request failed", e);
+        } catch (RuntimeException e) {
+            // 인터셉터 등에서 난 예외도 결과를 보고하지 않으면 HALF_OPEN 의 시험 호출이 끝나지 않는다.
+            if (!reported) {
+                outcome = "ERROR";
+                circuitBreaker.onFailure();
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+            Timer.builder(METRIC_NAME)
+                    .tag("provider", provider)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String outcome(int statusCode) {
+        if (statusCode >= 500) return "SERVER_ERROR";
+        if (statusCode >= 400) return "CLIENT_ERROR";
+        return "SUCCESS";
+    }
+}
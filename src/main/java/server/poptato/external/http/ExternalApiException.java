@@ -0,0 +1,28 @@
+package server.poptato.external.http;
+
+import lombok.Getter;
+
+/**
+ * 외부 API 호출 실패. 응답을 받지 못했거나 호출이 차단된 경우 statusCode 는 0 이다.
+ */
+@Getter
+public class ExternalApiException extends RuntimeException {
+    private final String provider;
+    private final int statusCode;
+
+    public ExternalApiException(String provider, int statusCode, String message) {
+        super("[" + provider + "] " + message);
+        this.provider = provider;
+        this.statusCode = statusCode;
+    }
+
+    public ExternalApiException(String provider, String message, Throwable cause) {
+        super("[" + provider + "] " + message, cause);
+        this.provider = provider;
+        this.statusCode = 0;
+    }
+
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500;
+    }
+}
@@ -0,0 +1,50 @@
+package server.poptato.external.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출에 쓰는 OkHttp 클라이언트를 하나만 두고, 제공자별 설정은 그 위에 덧씌운다.
+ * 제공자별 설정은 external.http.{provider}.* 로 바꿀 수 있다.
+ */
+@Component
+public class ExternalHttpClient {
+    private static final int MAX_IDLE_CONNECTIONS = 20;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    private final OkHttpClient sharedClient = new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+            .retryOnConnectionFailure(true)
+            .build();
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    public ExternalHttpClient(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    public ExternalApi create(String provider) {
+        String prefix = "external.http." + provider + ".";
+        Duration connectTimeout = Duration.ofMillis(environment.getProperty(prefix + "connect-timeout-ms", Long.class, 1000L));
+        Duration callTimeout = Duration.ofMillis(environment.getProperty(prefix + "call-timeout-ms", Long.class, 3000L));
+        int maxConcurrentCalls = environment.getProperty(prefix + "max-concurrent-calls", Integer.class, 20);
+        int failureThreshold = environment.getProperty(prefix + "circuit-breaker.failure-threshold", Integer.class, 5);
+        Duration openDuration = Duration.ofMillis(environment.getProperty(prefix + "circuit-breaker.open-ms", Long.class, 30_000L));
+
+        // newBuilder 로 만든 클라이언트는 커넥션 풀과 디스패처를 공유한다.
+        OkHttpClient providerClient = sharedClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .callTimeout(callTimeout)
+                .build();
+        return new ExternalApi(provider, providerClient, maxConcurrentCalls,
+                new CircuitBreaker(failureThreshold, openDuration, Clock.systemUTC()), meterRegistry);
+    }
+}
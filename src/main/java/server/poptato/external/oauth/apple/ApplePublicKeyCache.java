@@ -0,0 +1,133 @@
+package server.poptato.external.oauth.apple;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.poptato.auth.exception.AuthException;
+import server.poptato.auth.exception.errorcode.AuthExceptionErrorCode;
+import server.poptato.external.http.ExternalApi;
+import server.poptato.external.http.ExternalApiException;
+import server.poptato.external.http.ExternalHttpClient;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Apple 공개키(JWKS)를 kid 별로 파싱해 들고 있는다.
+ * 백그라운드에서 주기적으로 갱신하고, 모르는 kid 가 들어왔을 때만 다시 받아온다. 동시에 들어온 갱신 요청은 한 번의 호출로 합친다.
+ */
+@Slf4j
+@Component
+public class ApplePublicKeyCache {
+    private static final String APPLE_KEYS_URL = "https://appleid.apple.com/auth/keys";
+    // 모르는 kid 로 반복 요청이 와도 Apple 에 과하게 요청하지 않도록, 직전 갱신 후 이 시간 안에는 다시 받지 않는다.
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(30);
+
+    private final ExternalApi appleApi;
+    private final Duration ttl;
+    private final AtomicReference<CompletableFuture<KeySnapshot>> inFlightRefresh = new AtomicReference<>();
+    private volatile KeySnapshot snapshot = new KeySnapshot(Map.of(), Instant.EPOCH);
+
+    public ApplePublicKeyCache(ExternalHttpClient externalHttpClient, @Value("${apple.jwks.ttl:PT24H}") Duration ttl) {
+        this.appleApi = externalHttpClient.create("apple");
+        this.ttl = ttl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${apple.jwks.refresh-interval-ms:21600000}",
+            initialDelayString = "${apple.jwks.refresh-interval-ms:21600000}")
+    public void refreshInBackground() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh Apple public keys", e);
+        }
+    }
+
+    public PublicKey getPublicKey(String kid, String alg) {
+        KeySnapshot current = snapshot;
+        ApplePublicKey key = current.keys().get(kid);
+        if (key == null && current.fetchedAt().plus(MIN_REFETCH_INTERVAL).isBefore(Instant.now())) {
+            key = refresh().keys().get(kid);
+        } else if (key != null && current.fetchedAt().plus(ttl).isBefore(Instant.now())) {
+            key = refresh().keys().get(kid);
+        }
+        if (key == null || !key.alg().equals(alg)) {
+            throw new AuthException(AuthExceptionErrorCode.INVALID_TOKEN);
+        }
+        return key.publicKey();
+    }
+
+    private KeySnapshot refresh() {
+        CompletableFuture<KeySnapshot> refresh = new CompletableFuture<>();
+        CompletableFuture<KeySnapshot> running = inFlightRefresh.compareAndExchange(null, refresh);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            KeySnapshot fetched = new KeySnapshot(fetchKeys(), Instant.now());
+            snapshot = fetched;
+            refresh.complete(fetched);
+            return fetched;
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefresh.set(null);
+        }
+    }
+
+    private KeySnapshot await(CompletableFuture<KeySnapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, ApplePublicKey> fetchKeys() {
+        String response = appleApi.get(APPLE_KEYS_URL, Map.of());
+        Map<String, ApplePublicKey> keys = new HashMap<>();
+        for (JsonElement element : JsonParser.parseString(response).getAsJsonObject().getAsJsonArray("keys")) {
+            JsonObject key = element.getAsJsonObject();
+            keys.put(key.get("kid").getAsString(), new ApplePublicKey(key.get("alg").getAsString(), toPublicKey(key)));
+        }
+        return Map.copyOf(keys);
+    }
+
+    private PublicKey toPublicKey(JsonObject key) {
+        try {
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(key.get("n").getAsString()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(key.get("e").getAsString()));
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (GeneralSecurityException e) {
+            throw new ExternalApiException("apple", "invalid public key: " + key.get("kid"), e);
+        }
+    }
+
+    private record ApplePublicKey(String alg, PublicKey publicKey) {
+    }
+
+    private record KeySnapshot(Map<String, ApplePublicKey> keys, Instant fetchedAt) {
+    }
+}
@@ -1,149 +1,77 @@
 package server.poptato.external.oauth.apple;
 
-import com.google.gson.*;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import lombok.val;
-import org.springframework.http.HttpMethod;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import server.poptato.auth.exception.AuthException;
 import server.poptato.auth.exception.errorcode.AuthExceptionErrorCode;
 import server.poptato.external.oauth.SocialService;
 import server.poptato.external.oauth.SocialUserInfo;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.math.BigInteger;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.security.KeyFactory;
-import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
-import java.util.Objects;
 
 @Service
-@Transactional(readOnly = true)
-public class AppleSocialService  extends SocialService {
+@RequiredArgsConstructor
+public class AppleSocialService extends SocialService {
+    private final ApplePublicKeyCache applePublicKeyCache;
 
     @Override
     public SocialUserInfo getUserData(String accessToken) {
-        val publicKeyList = getApplePublicKeys();
-        val publicKey = makePublicKey(accessToken, publicKeyList);
+        String identityToken = getTokenFromBearerString(accessToken);
+        PublicKey publicKey = findPublicKey(identityToken);
 
-        val userInfo = Jwts.parserBuilder()
-                .setSigningKey(publicKey)
-                .build()
-                .parseClaimsJws(getTokenFromBearerString(accessToken))
-                .getBody();
-
-        val userInfoObject = (JsonObject) JsonParser.parseString(new Gson().toJson(userInfo));
+        Claims userInfo = parseClaims(identityToken, publicKey);
 
         return new SocialUserInfo(
-                userInfoObject.get("sub").getAsString(),      // socialId
-                userInfoObject.has("nickname") ? userInfoObject.get("nickname").getAsString() : null,
-                userInfoObject.has("email") ? userInfoObject.get("email").getAsString() : null,
+                userInfo.getSubject(),      // socialId
+                userInfo.get("nickname", String.class),
+                userInfo.get("email", String.class),
                 null);
     }
 
-    private JsonArray getApplePublicKeys() {
-        val connection = sendHttpRequest();
-        val result = getHttpResponse(connection);
-        val keys = (JsonObject)JsonParser.parseString(result.toString());
-        return (JsonArray)keys.get("keys");
+    private PublicKey findPublicKey(String identityToken) {
+        JsonObject header = parseHeader(identityToken);
+        return applePublicKeyCache.getPublicKey(header.get("kid").getAsString(), header.get("alg").getAsString());
     }
 
-    private HttpURLConnection sendHttpRequest() {
+    private JsonObject parseHeader(String identityToken) {
         try {
-            val url = new URL("https://appleid.apple.com/auth");
-            val connection = (HttpURLConnection)url.openConnection();
-            connection.setRequestMethod(HttpMethod.GET.name());
-            return connection;
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
+            String encodedHeader = identityToken.substring(0, identityToken.indexOf('.'));
+            String header = new String(Base64.getUrlDecoder().decode(encodedHeader), StandardCharsets.UTF_8);
+            JsonObject headerObject = JsonParser.parseString(header).getAsJsonObject();
+            if (!isStringField(headerObject, "kid") || !isStringField(headerObject, "alg")) {
+                throw new AuthException(AuthExceptionErrorCode.INVALID_TOKEN);
+            }
+            return headerObject;
+        } catch (IndexOutOfBoundsException | IllegalArgumentException | IllegalStateException | JsonParseException e) {
+            throw new AuthException(AuthExceptionErrorCode.INVALID_TOKEN);
         }
     }
 
-    private StringBuilder getHttpResponse(HttpURLConnection connection) {
-        try {
-            val bufferedReader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            return splitHttpResponse(bufferedReader);
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
+    private static boolean isStringField(JsonObject object, String name) {
+        return object.has(name) && object.get(name).isJsonPrimitive() && object.getAsJsonPrimitive(name).isString();
     }
 
-    private StringBuilder splitHttpResponse(BufferedReader bufferedReader) {
+    private Claims parseClaims(String identityToken, PublicKey publicKey) {
         try {
-            val result = new StringBuilder();
-
-            String line;
-            while (Objects.nonNull(line = bufferedReader.readLine())) {
-                result.append(line);
-            }
-            bufferedReader.close();
-
-            return result;
-        } catch (IOException exception) {
-            throw new RuntimeException(exception);
-        }
-    }
-
-    private PublicKey makePublicKey(String accessToken, JsonArray publicKeyList) {
-        val decodeArray = accessToken.split("\\.");
-        val header = new String(Base64.getDecoder().decode(getTokenFromBearerString(decodeArray[0])));
-
-        val kid = ((JsonObject)JsonParser.parseString(header)).get("kid");
-        val alg = ((JsonObject)JsonParser.parseString(header)).get("alg");
-        val matchingPublicKey = findMatchingPublicKey(publicKeyList, kid, alg);
-
-        if (Objects.isNull(matchingPublicKey)) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(publicKey)
+                    .build()
+                    .parseClaimsJws(identityToken)
+                    .getBody();
+        } catch (JwtException e) {
             throw new AuthException(AuthExceptionErrorCode.INVALID_TOKEN);
         }
-
-        return getPublicKey(matchingPublicKey);
     }
 
     private String getTokenFromBearerString(String token) {
         return token.replaceFirst("Bearer ", "");
     }
-
-    private JsonObject findMatchingPublicKey(JsonArray publicKeyList, JsonElement kid, JsonElement alg) {
-        for (JsonElement publicKey : publicKeyList) {
-            val publicKeyObject = publicKey.getAsJsonObject();
-            val publicKid = publicKeyObject.get("kid");
-            val publicAlg = publicKeyObject.get("alg");
-
-            if (Objects.equals(kid, publicKid) && Objects.equals(alg, publicAlg)) {
-                return publicKeyObject;
-            }
-        }
-
-        return null;
-    }
-
-    private PublicKey getPublicKey(JsonObject object) {
-        try {
-            val modulus = object.get("n").toString();
-            val exponent = object.get("e").toString();
-
-            val quotes = 1;
-            val modulusBytes = Base64.getUrlDecoder().decode(modulus.substring(quotes, modulus.length() - quotes));
-            val exponentBytes = Base64.getUrlDecoder().decode(exponent.substring(quotes, exponent.length() - quotes));
-
-            val positiveNumber = 1;
-            val modulusValue = new BigInteger(positiveNumber, modulusBytes);
-            val exponentValue = new BigInteger(positiveNumber, exponentBytes);
-
-            val publicKeySpec = new RSAPublicKeySpec(modulusValue, exponentValue);
-            val keyFactory = KeyFactory.getInstance("RSA");
-
-            return keyFactory.generatePublic(publicKeySpec);
-        } catch (InvalidKeySpecException | NoSuchAlgorithmException exception) {
-            throw new AuthException(AuthExceptionErrorCode.INVALID_TOKEN);
-        }
-    }
 }
@@ -1,17 +1,42 @@
 package server.poptato.external.oauth.kakao;
 
 
-import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.context.annotation.ComponentScan;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpHeaders;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.stereotype.Component;
+import server.poptato.auth.exception.AuthException;
+import server.poptato.auth.exception.errorcode.AuthExceptionErrorCode;
+import server.poptato.external.http.ExternalApi;
+import server.poptato.external.http.ExternalApiException;
+import server.poptato.external.http.ExternalHttpClient;
 
+import java.util.Map;
 
-@ComponentScan
-@FeignClient(name = "kakaoApiClient", url = "https://kapi.kakao.com")
-public interface KakaoApiClient {
 
-    @GetMapping(value = "/v2/user/me")
-    KakaoUserResponse getUserInformation(@RequestHeader(HttpHeaders.AUTHORIZATION) String accessToken);
+@Component
+public class KakaoApiClient {
+    private static final String USER_INFORMATION_URL = "https://kapi.kakao.com/v2/user/me";
+
+    private final ExternalApi kakaoApi;
+    private final ObjectMapper objectMapper;
+
+    public KakaoApiClient(ExternalHttpClient externalHttpClient, ObjectMapper objectMapper) {
+        this.kakaoApi = externalHttpClient.create("kakao");
+        this.objectMapper = objectMapper;
+    }
+
+    public KakaoUserResponse getUserInformation(String accessToken) {
+        try {
+            String response = kakaoApi.get(USER_INFORMATION_URL, Map.of(HttpHeaders.AUTHORIZATION, accessToken));
+            return objectMapper.readValue(response, KakaoUserResponse.class);
+        } catch (ExternalApiException e) {
+            if (e.isClientError()) {
+                throw new AuthException(AuthExceptionErrorCode.INVALID_TOKEN);
+            }
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new ExternalApiException("kakao", "invalid user information response", e);
+        }
+    }
 }
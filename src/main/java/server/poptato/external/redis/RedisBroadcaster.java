@@ -0,0 +1,37 @@
+package server.poptato.external.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 으로 다른 서버 노드에 메시지를 전달한다.
+ * 발행한 노드 자신도 메시지를 받으므로, 구독자는 같은 메시지를 두 번 처리해도 안전해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBroadcaster {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public void publish(String channel, String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast message to channel {}", channel, e);
+        }
+    }
+
+    public void subscribe(String channel, Consumer<String> listener) {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+}
@@ -0,0 +1,45 @@
+package server.poptato.external.s3.service;
+
+import java.util.Arrays;
+
+/**
+ * 업로드를 허용하는 이미지 형식. 확장자가 아니라 파일 앞부분의 magic bytes 로 판별한다.
+ */
+public enum ImageFormat {
+    PNG("png", ".png", "image/png", new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    JPEG("jpeg", ".jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF});
+
+    private final String formatName;
+    private final String extension;
+    private final String contentType;
+    private final byte[] magicBytes;
+
+    ImageFormat(String formatName, String extension, String contentType, byte[] magicBytes) {
+        this.formatName = formatName;
+        this.extension = extension;
+        this.contentType = contentType;
+        this.magicBytes = magicBytes;
+    }
+
+    public static ImageFormat detect(byte[] image) {
+        for (ImageFormat format : values()) {
+            if (image.length >= format.magicBytes.length
+                    && Arrays.equals(image, 0, format.magicBytes.length, format.magicBytes, 0, format.magicBytes.length)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid image format");
+    }
+
+    public String getFormatName() {
+        return formatName;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,116 @@
+package server.poptato.external.s3.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 이미지를 요청 스레드 밖에서 검증, 리사이즈, 재인코딩한 뒤 원본과 크기별 변형을 함께 S3 에 올린다.
+ * 작업은 큐가 제한된 전용 풀에서 실행되며, 큐가 가득 차면 즉시 거절한다.
+ * 변형 이미지는 variants/{size}/ 아래에 저장해 그룹별 원본 목록과 섞이지 않게 한다.
+ * 픽셀 수가 image.max-pixels 를 넘는 이미지는 디코딩 전에 거절한다.
+ */
+@Component
+public class ImageProcessingPipeline {
+    private final S3Service s3Service;
+    private final List<Integer> variantSizes;
+    private final long maxPixels;
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService monitoredWorkers;
+    private final Timer processingTimer;
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    public ImageProcessingPipeline(S3Service s3Service,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${image.variant-sizes:64,128,256}") List<Integer> variantSizes,
+                                   @Value("${image.max-pixels:25000000}") long maxPixels,
+                                   @Value("${image.processing.threads:2}") int threads,
+                                   @Value("${image.processing.queue-capacity:100}") int queueCapacity) {
+        this.s3Service = s3Service;
+        this.variantSizes = List.copyOf(variantSizes);
+        this.maxPixels = maxPixels;
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Image-Processing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredWorkers = ExecutorServiceMetrics.monitor(meterRegistry, workers, "imageProcessing");
+        this.processingTimer = Timer.builder("image.processing.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드 파일은 요청이 끝나면 사라질 수 있어 본문만 요청 스레드에서 읽고, 나머지는 작업 풀에서 처리한다.
+     */
+    public CompletableFuture<ImageVariants> process(MultipartFile multipartFile, String groupName) {
+        byte[] image = readBytes(multipartFile);
+        ImageFormat format = ImageFormat.detect(image);
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> processingTimer.record(() -> uploadWithVariants(image, format, groupName)), monitoredWorkers);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Image processing queue is full", e));
+        }
+    }
+
+    /**
+     * 중간에 실패하면 이미 올린 변형 이미지를 삭제 큐에 넣어, 원본 없이 남는 객체가 생기지 않게 한다.
+     */
+    private ImageVariants uploadWithVariants(byte[] image, ImageFormat format, String groupName) {
+        BufferedImage source = ImageResizer.read(image, maxPixels);
+        String fileName = groupName + "-" + UUID.randomUUID() + format.getExtension();
+
+        List<String> uploadedKeys = new ArrayList<>();
+        try {
+            Map<Integer, String> variantUrls = new LinkedHashMap<>();
+            for (Integer size : variantSizes) {
+                byte[] variant = ImageResizer.resize(source, format, size);
+                String variantKey = S3Service.variantKey(size, fileName);
+                variantUrls.put(size, upload(variant, format, variantKey));
+                uploadedKeys.add(variantKey);
+            }
+            String originalUrl = upload(image, format, fileName);
+            return new ImageVariants(originalUrl, variantUrls);
+        } catch (RuntimeException e) {
+            s3Service.deleteS3Keys(uploadedKeys);
+            throw e;
+        }
+    }
+
+    private String upload(byte[] image, ImageFormat format, String fileName) {
+        return s3Service.uploadImage(new ByteArrayInputStream(image), image.length, format.getContentType(), fileName);
+    }
+
+    private static byte[] readBytes(MultipartFile multipartFile) {
+        try {
+            return multipartFile.getBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+}
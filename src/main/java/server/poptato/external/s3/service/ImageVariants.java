@@ -0,0 +1,9 @@
+package server.poptato.external.s3.service;
+
+import java.util.Map;
+
+/**
+ * 원본 이미지 URL 과 크기(긴 변 픽셀)별 변형 이미지 URL.
+ */
+public record ImageVariants(String originalUrl, Map<Integer, String> variantUrls) {
+}
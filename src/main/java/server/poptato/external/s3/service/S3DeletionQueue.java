@@ -0,0 +1,152 @@
+package server.poptato.external.s3.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제할 S3 키를 모아 DeleteObjects 요청(최대 1000개)으로 한 번에 지운다.
+ * 호출자는 큐에 넣고 바로 돌아가며, 실패한 키는 최대 maxAttempts 번까지 다음 배치에서 다시 시도한다.
+ * 큐는 Redis list (s3:deletion:pending -> "attempts:key") 에 두어 재시작해도 남은 키를 이어서 지우고,
+ * 여러 노드가 같은 큐를 나눠 처리한다. 꺼낸 배치를 삭제하는 도중에 프로세스가 죽으면 그 배치만 남을 수 있다.
+ * 진행 상황은 s3.deletion.pending, s3.deletion.deleted, s3.deletion.failed 로 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class S3DeletionQueue {
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final String PENDING_KEY = "s3:deletion:pending";
+
+    private final AmazonS3 amazonS3;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String bucket;
+    private final int maxAttempts;
+    private final Counter deletedKeys;
+    private final Counter failedKeys;
+
+    public S3DeletionQueue(AmazonS3 amazonS3,
+                           RedisTemplate<String, String> redisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${cloud.aws.s3.bucket}") String bucket,
+                           @Value("${s3.deletion.max-attempts:5}") int maxAttempts) {
+        this.amazonS3 = amazonS3;
+        this.redisTemplate = redisTemplate;
+        this.bucket = bucket;
+        this.maxAttempts = maxAttempts;
+        this.deletedKeys = Counter.builder("s3.deletion.deleted").register(meterRegistry);
+        this.failedKeys = Counter.builder("s3.deletion.failed").register(meterRegistry);
+        Gauge.builder("s3.deletion.pending", this, S3DeletionQueue::getPendingCount).register(meterRegistry);
+    }
+
+    public void enqueue(String key) {
+        push(List.of(new PendingKey(key, 0)));
+    }
+
+    public void enqueueAll(Collection<String> keys) {
+        push(keys.stream().map(key -> new PendingKey(key, 0)).toList());
+    }
+
+    public long getPendingCount() {
+        Long size = redisTemplate.opsForList().size(PENDING_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 쌓인 키를 1000개씩 나눠 삭제한다. 스케줄러가 하나의 스레드에서 호출하므로 배치끼리 겹치지 않고,
+     * 이번 호출 중 다시 큐에 들어간 실패 키는 다음 호출에서 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${s3.deletion.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        long remaining = getPendingCount();
+        while (remaining > 0) {
+            List<PendingKey> batch = drain((int) Math.min(remaining, MAX_KEYS_PER_REQUEST));
+            if (batch.isEmpty()) {
+                return;
+            }
+            remaining -= batch.size();
+            deleteBatch(batch);
+        }
+    }
+
+    /**
+     * 남은 키는 Redis 에 그대로 있으므로, 종료 시에는 진행 중인 배치가 끝나 실패 키가 다시 큐에 들어갈 때까지만 기다린다.
+     */
+    @PreDestroy
+    synchronized void close() {
+        log.info("{} S3 objects remain queued for deletion", getPendingCount());
+    }
+
+    // 여러 노드가 동시에 꺼내도 LPOP 이 원자적이라 같은 키를 두 번 처리하지 않는다.
+    private List<PendingKey> drain(int maxSize) {
+        List<String> entries = redisTemplate.opsForList().leftPop(PENDING_KEY, maxSize);
+        return entries == null ? List.of() : entries.stream().map(PendingKey::parse).toList();
+    }
+
+    private void push(List<PendingKey> pendingKeys) {
+        if (!pendingKeys.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(PENDING_KEY, pendingKeys.stream().map(PendingKey::format).toList());
+        }
+    }
+
+    private void deleteBatch(List<PendingKey> batch) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(batch.stream().map(PendingKey::key).toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            amazonS3.deleteObjects(request);
+            deletedKeys.increment(batch.size());
+        } catch (MultiObjectDeleteException e) {
+            Set<String> failed = e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toSet());
+            deletedKeys.increment(batch.size() - failed.size());
+            retryLater(batch.stream()
+                    .filter(pendingKey -> failed.contains(pendingKey.key()))
+                    .toList());
+        } catch (SdkClientException e) {
+            log.warn("Failed to delete {} S3 objects", batch.size(), e);
+            retryLater(batch);
+        }
+    }
+
+    private void retryLater(List<PendingKey> pendingKeys) {
+        push(pendingKeys.stream()
+                .filter(pendingKey -> {
+                    if (pendingKey.attempts() + 1 < maxAttempts) {
+                        return true;
+                    }
+                    failedKeys.increment();
+                    log.error("Giving up deleting S3 object {} after {} attempts", pendingKey.key(), maxAttempts);
+                    return false;
+                })
+                .map(pendingKey -> new PendingKey(pendingKey.key(), pendingKey.attempts() + 1))
+                .toList());
+    }
+
+    private record PendingKey(String key, int attempts) {
+        // 횟수는 숫자이므로 첫 ':' 뒤는 모두 키다.
+        static PendingKey parse(String entry) {
+            int separator = entry.indexOf(':');
+            return new PendingKey(entry.substring(separator + 1), Integer.parseInt(entry.substring(0, separator)));
+        }
+
+        String format() {
+            return attempts + ":" + key;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package server.poptato.external.s3.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.poptato.external.redis.RedisBroadcaster;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 버킷의 객체 URL 을 키 순서대로 메모리에 들고 있다가, 그룹 이름 + '-' 로 시작하는 키의 URL 을 돌려준다.
+ * 전체 목록은 continuation token 을 따라 끝까지 받아 주기적으로 다시 만들고, 업로드와 삭제는 즉시 반영한 뒤 다른 노드에도 전파한다.
+ * 목록을 다시 받는 동안 들어온 업로드, 삭제는 기록해 두었다가 새 인덱스로 바꾸기 직전에 다시 적용한다.
+ */
+@Slf4j
+@Component
+public class S3KeyIndex {
+    private static final int MAX_KEYS_PER_PAGE = 1000;
+    private static final String KEY_INDEX_CHANNEL = "s3:key-index";
+    private static final String ADDED = "+";
+    private static final String REMOVED = "-";
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final RedisBroadcaster redisBroadcaster;
+    private final Object lock = new Object();
+    private volatile ConcurrentSkipListMap<String, String> urlsByKey = new ConcurrentSkipListMap<>();
+    // 목록을 다시 받는 중일 때만 존재한다. 키 -> 마지막 변경(ADDED, REMOVED)
+    private Map<String, String> changesDuringRefresh;
+
+    public S3KeyIndex(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucket, RedisBroadcaster redisBroadcaster) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.redisBroadcaster = redisBroadcaster;
+        redisBroadcaster.subscribe(KEY_INDEX_CHANNEL, this::applyBroadcast);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${s3.key-index.refresh-interval-ms:600000}",
+            initialDelayString = "${s3.key-index.refresh-interval-ms:600000}")
+    public void refresh() {
+        Map<String, String> changes = new LinkedHashMap<>();
+        synchronized (lock) {
+            changesDuringRefresh = changes;
+        }
+        try {
+            ConcurrentSkipListMap<String, String> rebuilt = new ConcurrentSkipListMap<>();
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucket)
+                    .withMaxKeys(MAX_KEYS_PER_PAGE);
+            ListObjectsV2Result result;
+            do {
+                result = amazonS3.listObjectsV2(request);
+                for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                    rebuilt.put(summary.getKey(), amazonS3.getUrl(bucket, summary.getKey()).toString());
+                }
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+            synchronized (lock) {
+                changes.forEach((key, change) -> apply(rebuilt, change, key));
+                urlsByKey = rebuilt;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh S3 key index of bucket {}", bucket, e);
+        } finally {
+            synchronized (lock) {
+                changesDuringRefresh = null;
+            }
+        }
+    }
+
+    public List<String> getUrls(String groupName) {
+        String prefix = groupName + "-";
+        return List.copyOf(urlsByKey.subMap(prefix, prefix + Character.MAX_VALUE).values());
+    }
+
+    public Optional<String> getUrl(String key) {
+        return Optional.ofNullable(urlsByKey.get(key));
+    }
+
+    public void add(String key) {
+        change(ADDED, key);
+        redisBroadcaster.publish(KEY_INDEX_CHANNEL, ADDED + key);
+    }
+
+    public void remove(String key) {
+        change(REMOVED, key);
+        redisBroadcaster.publish(KEY_INDEX_CHANNEL, REMOVED + key);
+    }
+
+    // 발행한 노드도 같은 메시지를 받지만, 추가와 삭제는 여러 번 적용해도 결과가 같다.
+    private void applyBroadcast(String message) {
+        change(message.substring(0, 1), message.substring(1));
+    }
+
+    private void change(String change, String key) {
+        synchronized (lock) {
+            apply(urlsByKey, change, key);
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.put(key, change);
+            }
+        }
+    }
+
+    private void apply(Map<String, String> index, String change, String key) {
+        if (ADDED.equals(change)) {
+            index.put(key, amazonS3.getUrl(bucket, key).toString());
+        } else {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package server.poptato.external.s3.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 스트림을 파트 단위로 읽어 S3 multipart upload 로 병렬 전송한다.
+ * 한 파트를 보내는 동안 다음 파트를 읽고, 동시에 메모리에 올라가는 파트 수는 maxInFlightParts 로 제한한다.
+ * 파트 업로드는 실패 시 재시도하며, 최종 실패하면 업로드를 중단(abort)해 남은 파트를 정리한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+    // S3 는 마지막 파트를 제외한 모든 파트가 5MB 이상이어야 한다.
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final Executor uploadExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int partSize;
+    private final int maxInFlightParts;
+    private final int maxAttempts;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Qualifier("s3UploadExecutor") Executor uploadExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${s3.upload.part-size:8388608}") int partSize,
+                               @Value("${s3.upload.max-in-flight-parts:4}") int maxInFlightParts,
+                               @Value("${s3.upload.max-attempts:3}") int maxAttempts) {
+        this.amazonS3 = amazonS3;
+        this.uploadExecutor = uploadExecutor;
+        this.meterRegistry = meterRegistry;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.maxInFlightParts = maxInFlightParts;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void upload(String bucket, String key, InputStream inputStream, long contentLength, String contentType) {
+        long startedAt = System.nanoTime();
+        long uploadedBytes = contentLength;
+        if (contentLength >= 0 && contentLength <= partSize) {
+            putObject(bucket, key, inputStream, contentLength, contentType);
+        } else {
+            uploadedBytes = uploadInParts(bucket, key, inputStream, contentType);
+        }
+        recordThroughput(uploadedBytes, System.nanoTime() - startedAt);
+    }
+
+    private void putObject(String bucket, String key, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(contentLength);
+        objectMetadata.setContentType(contentType);
+        amazonS3.putObject(new PutObjectRequest(bucket, key, inputStream, objectMetadata));
+    }
+
+    private long uploadInParts(String bucket, String key, InputStream inputStream, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, objectMetadata))
+                .getUploadId();
+        Semaphore inFlightParts = new Semaphore(maxInFlightParts);
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        long uploadedBytes = 0;
+        try {
+            int partNumber = 1;
+            byte[] part;
+            while ((part = readPart(inputStream)).length > 0 || partNumber == 1) {
+                inFlightParts.acquire();
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    break;
+                }
+                uploadedBytes += part.length;
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withPartSize(part.length);
+                byte[] body = part;
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(request, body), uploadExecutor)
+                        .whenComplete((etag, e) -> inFlightParts.release()));
+                if (part.length < partSize) {
+                    break;
+                }
+            }
+            List<PartETag> partETags = CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> parts.stream()
+                            .map(CompletableFuture::join)
+                            .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+                            .toList())
+                    .join();
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, new ArrayList<>(partETags)));
+            return uploadedBytes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId, parts);
+            throw new IllegalStateException("S3 upload interrupted", e);
+        } catch (RuntimeException e) {
+            abort(bucket, key, uploadId, parts);
+            throw e instanceof CompletionException && e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private PartETag uploadPart(UploadPartRequest request, byte[] body) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return amazonS3.uploadPart(request.withInputStream(new ByteArrayInputStream(body))).getPartETag();
+            } catch (SdkClientException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("Retrying S3 part {} of {} (attempt {})", request.getPartNumber(), request.getKey(), attempt, e);
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private byte[] readPart(InputStream inputStream) {
+        try {
+            return inputStream.readNBytes(partSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<PartETag>> parts) {
+        parts.forEach(part -> part.cancel(false));
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (SdkClientException e) {
+            log.warn("Failed to abort S3 multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+
+    private static void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(100L << (attempt - 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("S3 upload interrupted", e);
+        }
+    }
+
+    private void recordThroughput(long contentLength, long elapsedNanos) {
+        Timer.builder("s3.upload.duration").register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (contentLength > 0 && elapsedNanos > 0) {
+            DistributionSummary.builder("s3.upload.throughput")
+                    .baseUnit("bytes_per_second")
+                    .register(meterRegistry)
+                    .record(contentLength * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+}
@@ -1,18 +1,13 @@
 package server.poptato.external.s3.service;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -21,45 +16,75 @@ public class S3Service {
     private final static int IMAGE_URL_PREFIX_LENGTH = 41;
     private final static int EXPIRED_TIME = 3;
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final S3KeyIndex s3KeyIndex;
+    private final S3DeletionQueue s3DeletionQueue;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
-
-    public String uploadImage(MultipartFile multipartFile, String groupName) {
-        String fileName = createFileNameWithGroup(multipartFile.getOriginalFilename(), groupName);
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(multipartFile.getSize());
-        objectMetadata.setContentType(multipartFile.getContentType());
-
-        try (InputStream inputStream = multipartFile.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata));
-            return amazonS3.getUrl(bucket, fileName).toString();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    @Value("${image.variant-sizes:64,128,256}")
+    private List<Integer> variantSizes;
+    @Value("${image.display-size:128}")
+    private int displaySize;
+
+    /**
+     * 길이를 모르는 스트림(-1)도 받을 수 있으며, 큰 파일은 파트로 나눠 병렬 업로드한다.
+     * 업로드 파일은 ImageProcessingPipeline 이 형식 검증과 변형 생성을 마친 뒤 이 메서드로 올린다.
+     */
+    public String uploadImage(InputStream inputStream, long contentLength, String contentType, String fileName) {
+        s3MultipartUploader.upload(bucket, fileName, inputStream, contentLength, contentType);
+        s3KeyIndex.add(fileName);
+        return amazonS3.getUrl(bucket, fileName).toString();
     }
 
     public String getEmojiImageUrl(String groupName, String fileName) {
         String fullPath = groupName + "-" + fileName;
-        return amazonS3.getUrl(bucket, fullPath).toString();
+        return getDisplayUrl(amazonS3.getUrl(bucket, fullPath).toString());
     }
+
     public List<String> getUrlsByGroupName(String groupName) {
-        ListObjectsV2Request request = new ListObjectsV2Request()
-                .withBucketName(bucket)
-                .withPrefix(groupName + "-");
-        ListObjectsV2Result result = amazonS3.listObjectsV2(request);
-
-        List<String> urls = new ArrayList<>();
-        for (S3ObjectSummary summary : result.getObjectSummaries()) {
-            String url = amazonS3.getUrl(bucket, summary.getKey()).toString();
-            urls.add(url);
+        return s3KeyIndex.getUrls(groupName)
+                .stream()
+                .map(this::getDisplayUrl)
+                .toList();
+    }
+
+    /**
+     * 화면 표시 크기(image.display-size)의 변형 이미지 URL 을 돌려준다.
+     * 파이프라인 도입 전에 올라가 변형이 없는 이미지나 이 버킷 밖의 URL 은 그대로 돌려준다.
+     */
+    public String getDisplayUrl(final String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(amazonS3.getUrl(bucket, "").toString())) {
+            return imageUrl;
         }
-        return urls;
+        return s3KeyIndex.getUrl(variantKey(displaySize, getImageUrlToKey(imageUrl))).orElse(imageUrl);
     }
 
+    /**
+     * 원본과 크기별 변형 이미지를 삭제 큐에 넣고 바로 반환한다. 실제 삭제는 S3DeletionQueue 가 모아서 처리한다.
+     * 변형이 없는 이미지라도 없는 키의 삭제는 S3 에서 성공으로 처리된다.
+     */
     public void deleteS3Image(final String imageUrl) {
         final String imageKey = getImageUrlToKey(imageUrl);
-        amazonS3.deleteObject(bucket, imageKey);
+        deleteS3Key(imageKey);
+        variantSizes.forEach(size -> deleteS3Key(variantKey(size, imageKey)));
+    }
+
+    public void deleteS3Images(final Collection<String> imageUrls) {
+        imageUrls.forEach(this::deleteS3Image);
+    }
+
+    public void deleteS3Keys(final Collection<String> keys) {
+        keys.forEach(this::deleteS3Key);
+    }
+
+    public static String variantKey(int size, String key) {
+        return "variants/" + size + "/" + key;
+    }
+
+    private void deleteS3Key(final String key) {
+        s3DeletionQueue.enqueue(key);
+        s3KeyIndex.remove(key);
     }
 
     public String extractGroupNameFromUrl(String imageUrl) {
@@ -71,22 +96,8 @@ public class S3Service {
         return null;
     }
 
-    private String createFileNameWithGroup(String fileName, String groupName) {
-        return groupName + "-" + UUID.randomUUID().toString() + getFileExtension(fileName);
-    }
-
     private String getImageUrlToKey(final String imageUrl) {
         return imageUrl.substring(IMAGE_URL_PREFIX_LENGTH + bucket.length());
     }
-
-    private String getFileExtension(String fileName) {
-        if (fileName.isEmpty()) throw new IllegalArgumentException("File name cannot be empty");
-
-        List<String> validExtensions = Arrays.asList(".jpg", ".jpeg", ".png", ".JPG", ".JPEG", ".PNG");
-        String fileExtension = fileName.substring(fileName.lastIndexOf("."));
-        if (!validExtensions.contains(fileExtension)) throw new IllegalArgumentException("Invalid file extension");
-
-        return fileExtension;
-    }
 }
 
@@ -27,5 +27,24 @@ public class AsyncConfig{
         executor.initialize();
         return executor;
     }
-}
 
+    /**
+     * 로그인 처리 전용 실행기. 소셜 제공자 호출 동안 톰캣 스레드를 붙잡지 않도록 로그인 단계를 여기서 실행한다.
+     * 큐가 가득 차면 요청 스레드에서 직접 실행해 부하를 되돌린다.
+     */
+    @Bean(name = "loginExecutor")
+    public ThreadPoolTaskExecutor getLoginExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(20);
+        executor.setMaxPoolSize(50);
+        executor.setQueueCapacity(500);
+
+        executor.setThreadNamePrefix("Login-Executor-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.initialize();
+        return executor;
+    }
+}
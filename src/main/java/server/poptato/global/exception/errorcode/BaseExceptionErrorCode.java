@@ -28,7 +28,8 @@ public enum BaseExceptionErrorCode implements ResponseStatus {
      */
     SERVER_ERROR(3000, HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버에서 오류가 발생하였습니다."),
     DATABASE_ERROR(3001, HttpStatus.INTERNAL_SERVER_ERROR.value(), "데이터베이스에서 오류가 발생하였습니다."),
-    BAD_SQL_GRAMMAR(3002, HttpStatus.INTERNAL_SERVER_ERROR.value(), "SQL에 오류가 있습니다.");
+    BAD_SQL_GRAMMAR(3002, HttpStatus.INTERNAL_SERVER_ERROR.value(), "SQL에 오류가 있습니다."),
+    EXTERNAL_API_UNAVAILABLE(3003, HttpStatus.SERVICE_UNAVAILABLE.value(), "외부 서비스와 통신하지 못했습니다.");
 
     private final int code;
     private final int status;
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import server.poptato.external.http.ExternalApiException;
 import server.poptato.global.exception.BaseException;
 import server.poptato.global.exception.errorcode.BaseExceptionErrorCode;
 import server.poptato.global.response.BaseErrorResponse;
@@ -100,6 +101,13 @@ public class BaseExceptionHandler {
         return new BaseErrorResponse(BaseExceptionErrorCode.INAPPROPRIATE_DATA);
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ExternalApiException.class)
+    public BaseErrorResponse handle_ExternalApiException(ExternalApiException e) {
+        log.error("[BaseExceptionControllerAdvice: handle_ExternalApiException 호출]", e);
+        return new BaseErrorResponse(BaseExceptionErrorCode.EXTERNAL_API_UNAVAILABLE);
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(RuntimeException.class)
     public BaseErrorResponse handle_RuntimeException(Exception e) {
@@ -0,0 +1,32 @@
+package server.poptato.global.migration;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 마이그레이션 작업마다 하나씩 두는 행. 여러 노드가 같은 작업을 동시에 돌리지 않도록 이 행을 잠그고 실행하며,
+ * completedAt 에는 마지막으로 남은 작업이 없음을 확인한 시각을 남긴다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DataMigration {
+    @Id
+    private String name;
+    private LocalDateTime completedAt;
+
+    public static DataMigration create(String name) {
+        return new DataMigration(name, null);
+    }
+
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+    }
+}
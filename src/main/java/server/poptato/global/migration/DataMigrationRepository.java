@@ -0,0 +1,15 @@
+package server.poptato.global.migration;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM DataMigration m WHERE m.name = :name")
+    Optional<DataMigration> findWithLockByName(@Param("name") String name);
+}
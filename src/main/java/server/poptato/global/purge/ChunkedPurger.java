@@ -0,0 +1,72 @@
+package server.poptato.global.purge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 한 키(유저, 카테고리 등)에 딸린 행들을 테이블 순서대로 chunkSize 개씩 bulk DELETE 한다.
+ * chunk 마다 트랜잭션을 나눠 락을 오래 잡지 않고, 이미 지운 행은 다시 조회되지 않으므로 중간에 멈춰도 이어서 지울 수 있다.
+ */
+@Component
+public class ChunkedPurger {
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    public ChunkedPurger(TransactionTemplate transactionTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${purge.chunk-size:500}") int chunkSize) {
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * id 를 chunkSize 개씩 조회해 지우는 단계. 조회 결과가 chunkSize 보다 적어질 때까지 반복한다.
+     */
+    public Step chunked(String table, BiFunction<Long, Pageable, List<Long>> findIds, Function<List<Long>, Integer> deleteByIds) {
+        return new Step(table, true, key -> {
+            List<Long> ids = findIds.apply(key, PageRequest.of(0, chunkSize));
+            return ids.isEmpty() ? 0 : deleteByIds.apply(ids);
+        });
+    }
+
+    /**
+     * 키당 행이 적은 테이블을 한 번에 지우는 단계.
+     */
+    public Step whole(String table, Function<Long, Integer> deleteAllByKey) {
+        return new Step(table, false, deleteAllByKey);
+    }
+
+    /**
+     * @return 지운 행 수
+     */
+    public long purge(String job, Long key, List<Step> steps) {
+        long total = 0;
+        for (Step step : steps) {
+            Counter deletedRows = Counter.builder("purge.deleted.rows")
+                    .tag("job", job)
+                    .tag("table", step.table())
+                    .register(meterRegistry);
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> step.deleteChunk().apply(key));
+                deletedRows.increment(deleted);
+                total += deleted;
+            } while (step.repeat() && deleted >= chunkSize);
+        }
+        return total;
+    }
+
+    public record Step(String table, boolean repeat, Function<Long, Integer> deleteChunk) {
+    }
+}
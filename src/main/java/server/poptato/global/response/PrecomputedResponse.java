@@ -0,0 +1,43 @@
+package server.poptato.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 미리 직렬화해 둔 BaseResponse 본문과 그 내용으로 만든 strong ETag.
+ * ETag 가 함께 내려가므로 If-None-Match 요청에는 본문 없이 304 로 응답된다.
+ */
+public record PrecomputedResponse(byte[] body, String eTag) {
+    public static PrecomputedResponse of(ObjectMapper objectMapper, Object result) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new BaseResponse<>(result));
+            return new PrecomputedResponse(body, toETag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .eTag(eTag)
+                .body(body);
+    }
+
+    private static String toETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package server.poptato.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 작업을 실행한다. 트랜잭션 밖에서 호출되면 즉시 실행한다.
+ * 캐시 무효화를 커밋 전에 하면 그 사이 다른 요청이 이전 값을 다시 채울 수 있어 커밋 이후로 미룬다.
+ */
+public final class AfterCommitExecutor {
+    private AfterCommitExecutor() {
+    }
+
+    public static void execute(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
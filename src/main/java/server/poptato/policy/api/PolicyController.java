@@ -1,21 +1,23 @@
 package server.poptato.policy.api;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
-import server.poptato.global.response.BaseResponse;
 import server.poptato.policy.application.PolicyService;
-import server.poptato.policy.application.response.PolicyResponseDto;
-import server.poptato.policy.domain.entity.Policy;
+
+import java.time.Duration;
 
 @RestController
 @RequiredArgsConstructor
 public class PolicyController {
+    private static final CacheControl POLICY_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final PolicyService policyService;
 
     @GetMapping("/policy")
-    public BaseResponse<PolicyResponseDto> getPolicy(){
-        PolicyResponseDto response = policyService.getPrivacyPolicy();
-        return new BaseResponse<>(response);
+    public ResponseEntity<byte[]> getPolicy(){
+        return policyService.getPrivacyPolicyResponse().toResponseEntity(POLICY_CACHE_CONTROL);
     }
 }
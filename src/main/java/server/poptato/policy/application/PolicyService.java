@@ -1,10 +1,14 @@
 package server.poptato.policy.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import server.poptato.global.response.PrecomputedResponse;
 import server.poptato.policy.application.response.PolicyResponseDto;
 import server.poptato.policy.converter.PolicyDtoConverter;
-import server.poptato.policy.domain.entity.Policy;
 import server.poptato.policy.domain.repository.PolicyRepository;
 import server.poptato.policy.exception.PolicyException;
 
@@ -14,10 +18,41 @@ import static server.poptato.policy.exception.errorcode.PolicyExceptionErrorCode
 @RequiredArgsConstructor
 public class PolicyService {
     private final PolicyRepository policyRepository;
+    private final ObjectMapper objectMapper;
+    // 최신 개인정보처리방침과 그 직렬화 결과를 함께 들고, 새 방침이 등록되면 다음 갱신 때 교체한다.
+    private volatile PolicySnapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${static-catalog.refresh-interval-ms:300000}",
+            initialDelayString = "${static-catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        snapshot = policyRepository.findTopByOrderByCreatedAtDesc()
+                .map(PolicyDtoConverter::toPolicyDto)
+                .map(policy -> snapshot != null && snapshot.policy().equals(policy)
+                        ? snapshot
+                        : new PolicySnapshot(policy, PrecomputedResponse.of(objectMapper, policy)))
+                .orElse(null);
+    }
 
     public PolicyResponseDto getPrivacyPolicy() {
-        Policy policy = policyRepository.findTopByOrderByCreatedAtDesc()
-                .orElseThrow(() -> new PolicyException(POLICY_NOT_FOUND_EXCEPTION));
-        return PolicyDtoConverter.toPolicyDto(policy);
+        return getSnapshot().policy();
+    }
+
+    public PrecomputedResponse getPrivacyPolicyResponse() {
+        return getSnapshot().response();
+    }
+
+    private PolicySnapshot getSnapshot() {
+        if (snapshot == null) {
+            refresh();
+        }
+        PolicySnapshot current = snapshot;
+        if (current == null) {
+            throw new PolicyException(POLICY_NOT_FOUND_EXCEPTION);
+        }
+        return current;
+    }
+
+    private record PolicySnapshot(PolicyResponseDto policy, PrecomputedResponse response) {
     }
 }
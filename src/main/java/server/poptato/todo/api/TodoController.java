@@ -1,26 +1,39 @@
 package server.poptato.todo.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import server.poptato.global.response.BaseResponse;
+import server.poptato.global.response.PrecomputedResponse;
 import server.poptato.todo.api.request.*;
 import server.poptato.todo.application.TodoScheduler;
 import server.poptato.todo.application.TodoService;
+import server.poptato.todo.application.response.CompletionStatisticsResponseDto;
 import server.poptato.todo.application.response.HistoryCalendarListResponseDto;
+import server.poptato.todo.application.response.HistoryHeatmapResponseDto;
 import server.poptato.todo.application.response.PaginatedHistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailListResponseDto;
 import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.user.resolver.UserId;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
+    private static final Duration HISTORY_MAX_AGE = Duration.ofMinutes(5);
     private final TodoService todoService;
+    private final ObjectMapper objectMapper;
 
     @DeleteMapping("/todo/{todoId}")
     public BaseResponse deleteTodo(@UserId Long userId, @PathVariable Long todoId) {
@@ -56,6 +69,13 @@ public class TodoController {
         return new BaseResponse<>(response);
     }
 
+    @GetMapping("/todos")
+    public BaseResponse<TodoDetailListResponseDto> getTodoInfos(@UserId Long userId,
+                                                                @RequestParam("ids") List<Long> todoIds) {
+        TodoDetailListResponseDto response = todoService.getTodoInfos(userId, todoIds);
+        return new BaseResponse<>(response);
+    }
+
     @PatchMapping("/todo/{todoId}/deadline")
     public BaseResponse updateDeadline(@UserId Long userId,
                                        @PathVariable Long todoId,
@@ -95,22 +115,57 @@ public class TodoController {
     }
 
     @GetMapping("/histories")
-    public BaseResponse<PaginatedHistoryResponseDto> getHistories(
+    public ResponseEntity<byte[]> getHistories(
             @UserId Long userId,
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) Long cursor,
             @RequestParam(value = "size", defaultValue = "15") int size,
             @RequestParam LocalDate date) {
-        PaginatedHistoryResponseDto response = todoService.getHistories(userId, date, page, size);
-        return new BaseResponse<>(response);
+        PaginatedHistoryResponseDto response = todoService.getHistories(userId, date, cursor, size);
+        return withHistoryCacheControl(isPastDate(date), response);
     }
 
     @GetMapping("/calendar")
-    public BaseResponse<HistoryCalendarListResponseDto> getHistoryCalendarDateList(
+    public ResponseEntity<byte[]> getHistoryCalendarDateList(
             @UserId Long userId,
             @RequestParam String year,
             @RequestParam int month
     ) {
         HistoryCalendarListResponseDto response = todoService.getHistoriesCalendar(userId, year, month);
+        LocalDate endOfMonth = YearMonth.of(Integer.parseInt(year), month).atEndOfMonth();
+        return withHistoryCacheControl(isPastDate(endOfMonth), response);
+    }
+
+    @GetMapping("/calendar/heatmap")
+    public BaseResponse<HistoryHeatmapResponseDto> getHistoryHeatmap(
+            @UserId Long userId,
+            @RequestParam String year
+    ) {
+        HistoryHeatmapResponseDto response = todoService.getHistoriesHeatmap(userId, year);
         return new BaseResponse<>(response);
     }
+
+    @GetMapping("/statistics")
+    public BaseResponse<CompletionStatisticsResponseDto> getCompletionStatistics(@UserId Long userId) {
+        CompletionStatisticsResponseDto response = todoService.getCompletionStatistics(userId);
+        return new BaseResponse<>(response);
+    }
+
+    // 어제 기록은 YESTERDAY 할 일의 달성 여부 변경으로 바뀔 수 있으므로 그 이전 날짜만 잠시 캐시한다.
+    private boolean isPastDate(LocalDate date) {
+        return date.isBefore(LocalDate.now().minusDays(1));
+    }
+
+    // 지난 기록도 할 일 수정, 삭제로 바뀔 수 있으므로 짧게만 캐시하고 이후에는 ETag 로 재검증한다.
+    private ResponseEntity<byte[]> withHistoryCacheControl(boolean isPastDate, Object result) {
+        CacheControl cacheControl = isPastDate
+                ? CacheControl.maxAge(HISTORY_MAX_AGE).cachePrivate()
+                : CacheControl.noCache().cachePrivate();
+        PrecomputedResponse response = PrecomputedResponse.of(objectMapper, result);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .eTag(response.eTag())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(response.body());
+    }
 }
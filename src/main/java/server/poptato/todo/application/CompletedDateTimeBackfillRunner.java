@@ -0,0 +1,84 @@
+package server.poptato.todo.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import server.poptato.global.migration.DataMigration;
+import server.poptato.global.migration.DataMigrationRepository;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+
+import java.util.List;
+
+/**
+ * completed_date, user_id 가 비어 있는 행을 chunk 단위로 채우고, 할 일이 이미 지워져 user_id 를 채울 수 없는 행은 삭제한다.
+ * 배포 중 이전 버전 노드가 넣은 행도 채울 수 있도록 한 번으로 끝내지 않고 주기적으로 실행한다.
+ * chunk 마다 data_migration 행을 잠가 여러 노드가 같은 행을 동시에 처리하지 않는다.
+ */
+@Slf4j
+@Component
+public class CompletedDateTimeBackfillRunner {
+    static final String MIGRATION_NAME = "completed_date_time_backfill";
+
+    private final CompletedDateTimeRepository completedDateTimeRepository;
+    private final DataMigrationRepository dataMigrationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CompletedDateTimeBackfillRunner(CompletedDateTimeRepository completedDateTimeRepository,
+                                           DataMigrationRepository dataMigrationRepository,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${completed-date-time.backfill.chunk-size:1000}") int chunkSize) {
+        this.completedDateTimeRepository = completedDateTimeRepository;
+        this.dataMigrationRepository = dataMigrationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${completed-date-time.backfill.interval-ms:60000}")
+    public void backfill() {
+        try {
+            createMigrationIfAbsent();
+            int updatedCount = 0;
+            int deletedCount = 0;
+            BackfillChunk chunk;
+            while ((chunk = transactionTemplate.execute(status -> backfillChunk())) != null) {
+                updatedCount += chunk.updatedCount();
+                deletedCount += chunk.deletedCount();
+            }
+            if (updatedCount > 0 || deletedCount > 0) {
+                log.info("[CompletedDateTime] completed_date, user_id 백필: {}건, 할 일이 없는 기록 삭제: {}건", updatedCount, deletedCount);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CompletedDateTime] 백필이 중단되어 다음 실행에서 이어서 처리합니다.", e);
+        }
+    }
+
+    // 백필을 마친 행은 completed_date 가 채워지거나 삭제되므로, 매번 남은 행의 앞에서부터 꺼내면 된다.
+    private BackfillChunk backfillChunk() {
+        DataMigration migration = dataMigrationRepository.findWithLockByName(MIGRATION_NAME).orElseThrow();
+        List<Long> ids = completedDateTimeRepository.findIdsToBackfill(PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            migration.complete();
+            return null;
+        }
+        int updatedCount = completedDateTimeRepository.backfillCompletedDateAndUserId(ids);
+        int deletedCount = completedDateTimeRepository.deleteOrphans(ids);
+        return new BackfillChunk(updatedCount, deletedCount);
+    }
+
+    private void createMigrationIfAbsent() {
+        if (dataMigrationRepository.existsById(MIGRATION_NAME)) return;
+        try {
+            dataMigrationRepository.saveAndFlush(DataMigration.create(MIGRATION_NAME));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[CompletedDateTime] 다른 노드가 백필 잠금 행을 먼저 만들었습니다.");
+        }
+    }
+
+    private record BackfillChunk(int updatedCount, int deletedCount) {
+    }
+}
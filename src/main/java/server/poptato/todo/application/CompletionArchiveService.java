@@ -0,0 +1,123 @@
+package server.poptato.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import server.poptato.global.transaction.AfterCommitExecutor;
+import server.poptato.todo.application.response.HistoryResponseDto;
+import server.poptato.todo.domain.entity.CompletionArchiveWatermark;
+import server.poptato.todo.domain.entity.CompletionCalendar;
+import server.poptato.todo.domain.repository.ArchivedCompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletionArchiveWatermarkRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.DailyCompletionCount;
+import server.poptato.todo.exception.TodoException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static server.poptato.todo.exception.errorcode.TodoExceptionErrorCode.INVALID_CURSOR;
+
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class CompletionArchiveService {
+    private final CompletedDateTimeRepository completedDateTimeRepository;
+    private final ArchivedCompletedDateTimeRepository archivedCompletedDateTimeRepository;
+    private final CompletionArchiveWatermarkRepository completionArchiveWatermarkRepository;
+    private final TodoRepository todoRepository;
+
+    @Value("${completion.archive.retention-days:365}")
+    private int archiveRetentionDays;
+    // 커밋된 워터마크의 하한. 워터마크는 앞으로만 움직이므로 이보다 이전 날짜는 항상 보관 테이블에 있다.
+    private volatile LocalDate knownArchivedBefore = LocalDate.EPOCH;
+
+    /**
+     * horizon 이전의 가장 오래된 하루치 기록을 보관 테이블로 옮긴다.
+     * 복사, 삭제, 워터마크 갱신이 한 트랜잭션에서 일어나므로 조회는 항상 한쪽 테이블에서 온전한 하루를 본다.
+     *
+     * @return 옮길 기록이 남아 있으면 true
+     */
+    public boolean archiveOldestDay(LocalDate horizon) {
+        CompletionArchiveWatermark watermark = completionArchiveWatermarkRepository.findFirstByOrderByIdAsc()
+                .orElseGet(() -> completionArchiveWatermarkRepository.save(new CompletionArchiveWatermark(LocalDate.EPOCH)));
+        Optional<LocalDate> oldestDate = completedDateTimeRepository.findMinCompletedDateBefore(horizon);
+        if (oldestDate.isEmpty()) {
+            watermark.advanceTo(horizon);
+            rememberAfterCommit(watermark.getArchivedBefore());
+            return false;
+        }
+        LocalDate completedDate = oldestDate.get();
+        archivedCompletedDateTimeRepository.archiveByCompletedDate(
+                completedDate, CompletionCalendar.toCalendarMonth(YearMonth.from(completedDate)));
+        completedDateTimeRepository.deleteByCompletedDate(completedDate);
+        watermark.advanceTo(completedDate.plusDays(1));
+        rememberAfterCommit(watermark.getArchivedBefore());
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public List<HistoryResponseDto> findHistories(Long userId, LocalDate localDate, Long cursor, Pageable pageable) {
+        if (isArchived(localDate)) {
+            if (cursor != null && !archivedCompletedDateTimeRepository.existsByIdAndUserIdAndCompletedDate(cursor, userId, localDate)) {
+                throw new TodoException(INVALID_CURSOR);
+            }
+            return archivedCompletedDateTimeRepository.findHistories(userId, localDate, cursor, pageable);
+        }
+        // 커서가 가리키는 기록이 없으면 쿼리가 첫 페이지부터 다시 반환하므로 미리 거절한다.
+        if (cursor != null && !completedDateTimeRepository.existsByIdAndUserIdAndCompletedDate(cursor, userId, localDate)) {
+            throw new TodoException(INVALID_CURSOR);
+        }
+        return todoRepository.findHistories(userId, localDate, cursor, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LocalDate> findCompletedDates(Long userId, YearMonth yearMonth) {
+        List<LocalDate> completedDates = completedDateTimeRepository.findCompletedDates(userId, yearMonth);
+        if (!isArchived(yearMonth.atDay(1))) return completedDates;
+
+        TreeSet<LocalDate> mergedDates = new TreeSet<>(completedDates);
+        mergedDates.addAll(archivedCompletedDateTimeRepository.findCompletedDates(userId, yearMonth));
+        return new ArrayList<>(mergedDates);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyCompletionCount> countDailyCompletions(Long userId) {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        archivedCompletedDateTimeRepository.countDailyCompletionsByUserId(userId)
+                .forEach(count -> counts.merge(count.completedDate(), count.completedCount(), Long::sum));
+        completedDateTimeRepository.countDailyCompletionsByUserId(userId)
+                .forEach(count -> counts.merge(count.completedDate(), count.completedCount(), Long::sum));
+        return counts.entrySet().stream()
+                .map(entry -> new DailyCompletionCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private boolean isArchived(LocalDate date) {
+        if (date.isBefore(knownArchivedBefore)) return true;
+        // 보관 작업은 보존 기간 이전 날짜만 옮기므로, 그 이후 날짜는 워터마크를 조회하지 않아도 원본 테이블에 있다.
+        if (!date.isBefore(LocalDate.now().minusDays(archiveRetentionDays))) return false;
+        LocalDate archivedBefore = completionArchiveWatermarkRepository.findFirstByOrderByIdAsc()
+                .map(CompletionArchiveWatermark::getArchivedBefore)
+                .orElse(LocalDate.EPOCH);
+        rememberAfterCommit(archivedBefore);
+        return date.isBefore(archivedBefore);
+    }
+
+    private void rememberAfterCommit(LocalDate archivedBefore) {
+        AfterCommitExecutor.execute(() -> {
+            synchronized (this) {
+                if (archivedBefore.isAfter(knownArchivedBefore)) knownArchivedBefore = archivedBefore;
+            }
+        });
+    }
+}
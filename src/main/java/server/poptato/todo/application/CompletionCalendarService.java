@@ -0,0 +1,81 @@
+package server.poptato.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import server.poptato.todo.domain.entity.CompletionCalendar;
+import server.poptato.todo.domain.repository.ArchivedCompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletionCalendarRepository;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class CompletionCalendarService {
+    private final CompletionCalendarRepository completionCalendarRepository;
+    private final CompletedDateTimeRepository completedDateTimeRepository;
+    private final ArchivedCompletedDateTimeRepository archivedCompletedDateTimeRepository;
+    private final CompletionArchiveService completionArchiveService;
+    private final CompletionLock completionLock;
+
+    public void markCompleted(Long userId, LocalDate completedDate) {
+        completionLock.lock(userId);
+        CompletionCalendar calendar = getOrSaveCalendar(userId, YearMonth.from(completedDate));
+        calendar.markDay(completedDate);
+    }
+
+    public void unmarkIfNoCompletion(Long userId, LocalDate completedDate) {
+        completionLock.lock(userId);
+        if (completedDateTimeRepository.existsByUserIdAndCompletedDate(userId, completedDate)
+                || archivedCompletedDateTimeRepository.existsByUserIdAndCompletedDate(userId, completedDate)) return;
+        CompletionCalendar calendar = getOrSaveCalendar(userId, YearMonth.from(completedDate));
+        calendar.unmarkDay(completedDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LocalDate> getCompletedDates(Long userId, YearMonth yearMonth) {
+        return completionCalendarRepository.findByUserIdAndCalendarMonth(userId, CompletionCalendar.toCalendarMonth(yearMonth))
+                .orElseGet(() -> buildCalendar(userId, yearMonth))
+                .getCompletedDates();
+    }
+
+    @Transactional(readOnly = true)
+    public List<LocalDate> getCompletedDates(Long userId, Year year, YearMonth currentYearMonth) {
+        Map<Integer, CompletionCalendar> calendars = completionCalendarRepository.findByUserIdAndCalendarMonthBetween(
+                        userId,
+                        CompletionCalendar.toCalendarMonth(year.atMonth(1)),
+                        CompletionCalendar.toCalendarMonth(year.atMonth(12)))
+                .stream()
+                .collect(Collectors.toMap(CompletionCalendar::getCalendarMonth, Function.identity()));
+
+        List<LocalDate> completedDates = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            YearMonth yearMonth = year.atMonth(month);
+            if (yearMonth.isAfter(currentYearMonth)) break;
+            CompletionCalendar calendar = calendars.get(CompletionCalendar.toCalendarMonth(yearMonth));
+            if (calendar == null) calendar = buildCalendar(userId, yearMonth);
+            completedDates.addAll(calendar.getCompletedDates());
+        }
+        return completedDates;
+    }
+
+    // 달력 행은 CompletionLock 을 잡은 쓰기 경로에서만 만든다. 조회는 없으면 저장하지 않고 계산만 한다.
+    private CompletionCalendar getOrSaveCalendar(Long userId, YearMonth yearMonth) {
+        return completionCalendarRepository.findByUserIdAndCalendarMonth(userId, CompletionCalendar.toCalendarMonth(yearMonth))
+                .orElseGet(() -> completionCalendarRepository.save(buildCalendar(userId, yearMonth)));
+    }
+
+    private CompletionCalendar buildCalendar(Long userId, YearMonth yearMonth) {
+        List<LocalDate> completedDates = completionArchiveService.findCompletedDates(userId, yearMonth);
+        return CompletionCalendar.create(userId, yearMonth, completedDates);
+    }
+}
@@ -0,0 +1,19 @@
+package server.poptato.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import server.poptato.user.domain.repository.UserRepository;
+
+/**
+ * 달성 기록에서 파생된 달력, 일별 달성 수, 연속 기록을 고치는 작업을 유저 단위로 직렬화한다.
+ * 유저 행에 쓰기 락을 걸어 트랜잭션이 끝날 때까지 잡고 있으므로, 같은 트랜잭션에서는 여러 번 호출해도 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompletionLock {
+    private final UserRepository userRepository;
+
+    public void lock(Long userId) {
+        userRepository.findWithLockById(userId);
+    }
+}
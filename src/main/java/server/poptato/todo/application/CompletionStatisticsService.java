@@ -0,0 +1,139 @@
+package server.poptato.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import server.poptato.todo.application.response.CompletionStatisticsResponseDto;
+import server.poptato.todo.domain.entity.CompletionStreak;
+import server.poptato.todo.domain.entity.DailyCompletion;
+import server.poptato.todo.domain.repository.CompletionStreakRepository;
+import server.poptato.todo.domain.repository.DailyCompletionRepository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class CompletionStatisticsService {
+    private final DailyCompletionRepository dailyCompletionRepository;
+    private final CompletionStreakRepository completionStreakRepository;
+    private final CompletionArchiveService completionArchiveService;
+    private final CompletionLock completionLock;
+    private static final int FORWARD = 1;
+    private static final int BACKWARD = -1;
+    private static final int INITIAL_SCAN_WINDOW_DAYS = 32;
+
+    public void increase(Long userId, LocalDate completedDate) {
+        completionLock.lock(userId);
+        Optional<CompletionStreak> streak = completionStreakRepository.findByUserId(userId);
+        if (streak.isEmpty()) {
+            rebuild(userId);
+            return;
+        }
+        if (dailyCompletionRepository.increaseCompletedCount(userId, completedDate, LocalDateTime.now()) == 0) {
+            dailyCompletionRepository.save(DailyCompletion.create(userId, completedDate, 1));
+        }
+        boolean isFirstOfDay = getCompletedCount(userId, completedDate) == 1;
+        if (isFirstOfDay && !streak.get().extend(completedDate)) {
+            int before = countConsecutiveDays(userId, completedDate.minusDays(1), BACKWARD);
+            int after = countConsecutiveDays(userId, completedDate.plusDays(1), FORWARD);
+            streak.get().fill(completedDate.plusDays(after), before + 1 + after);
+        }
+    }
+
+    public void decrease(Long userId, LocalDate completedDate) {
+        completionLock.lock(userId);
+        Optional<CompletionStreak> streak = completionStreakRepository.findByUserId(userId);
+        if (streak.isEmpty() || dailyCompletionRepository.decreaseCompletedCount(userId, completedDate, LocalDateTime.now()) == 0) {
+            rebuild(userId);
+            return;
+        }
+        if (getCompletedCount(userId, completedDate) == 0) {
+            shorten(userId, streak.get(), completedDate);
+        }
+    }
+
+    /**
+     * 연속 기록 행이 아직 없는 유저는 연속 기록을 0 으로 돌려준다. 행은 다음 달성 시 또는 주기적인 재계산 작업에서 만들어진다.
+     */
+    @Transactional(readOnly = true)
+    public CompletionStatisticsResponseDto getStatistics(Long userId, LocalDate today) {
+        Optional<CompletionStreak> streak = completionStreakRepository.findByUserId(userId);
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+        YearMonth yearMonth = YearMonth.from(today);
+        long weeklyCount = dailyCompletionRepository.sumCompletedCountByUserIdAndDateRange(
+                userId, weekStart, weekStart.plusWeeks(1));
+        long monthlyCount = dailyCompletionRepository.sumCompletedCountByUserIdAndDateRange(
+                userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+        return new CompletionStatisticsResponseDto(weeklyCount, monthlyCount,
+                streak.map(value -> value.getCurrentStreak(today)).orElse(0),
+                streak.map(CompletionStreak::getBestStreak).orElse(0));
+    }
+
+    public CompletionStreak rebuild(Long userId) {
+        completionLock.lock(userId);
+        dailyCompletionRepository.deleteAllByUserId(userId);
+        List<DailyCompletion> dailyCompletions = completionArchiveService.countDailyCompletions(userId)
+                .stream()
+                .map(count -> DailyCompletion.create(userId, count.completedDate(), count.completedCount().intValue()))
+                .toList();
+        dailyCompletionRepository.saveAll(dailyCompletions);
+
+        CompletionStreak streak = completionStreakRepository.findByUserId(userId)
+                .orElseGet(() -> completionStreakRepository.save(CompletionStreak.create(userId)));
+        streak.recalculate(dailyCompletions.stream().map(DailyCompletion::getCompletionDate).toList());
+        return streak;
+    }
+
+    // 사라진 날짜의 앞뒤 연속 기록만 읽어 갱신한다. 최고 기록이던 연속 기록이 끊긴 경우에만 다른 연속 기록과 비교해야 하므로 전체를 다시 계산한다.
+    private void shorten(Long userId, CompletionStreak streak, LocalDate removedDate) {
+        int before = countConsecutiveDays(userId, removedDate.minusDays(1), BACKWARD);
+        int after = countConsecutiveDays(userId, removedDate.plusDays(1), FORWARD);
+        if (before + 1 + after >= streak.getBestStreak() && Math.max(before, after) < streak.getBestStreak()) {
+            streak.recalculate(dailyCompletionRepository.findCompletionDatesByUserId(userId));
+            return;
+        }
+        LocalDate runEnd = removedDate.plusDays(after);
+        if (!runEnd.equals(streak.getLastCompletedDate())) return;
+        if (after > 0) {
+            streak.truncate(runEnd, after);
+            return;
+        }
+        Optional<LocalDate> lastCompletedDate = dailyCompletionRepository.findLastCompletionDateBefore(userId, removedDate);
+        streak.truncate(lastCompletedDate.orElse(null),
+                lastCompletedDate.map(date -> countConsecutiveDays(userId, date, BACKWARD)).orElse(0));
+    }
+
+    /**
+     * start 부터 direction 방향으로 달성 기록이 끊기지 않고 이어진 날 수를 센다.
+     * 전체 날짜를 읽지 않도록 창 크기를 두 배씩 늘려 가며 연속 기록이 끊기는 곳까지만 읽는다.
+     */
+    private int countConsecutiveDays(Long userId, LocalDate start, int direction) {
+        int count = 0;
+        LocalDate cursor = start;
+        int window = INITIAL_SCAN_WINDOW_DAYS;
+        while (true) {
+            LocalDate windowEnd = cursor.plusDays((long) direction * window);
+            Set<LocalDate> completionDates = new HashSet<>(direction == FORWARD
+                    ? dailyCompletionRepository.findCompletionDatesByUserIdAndDateRange(userId, cursor, windowEnd)
+                    : dailyCompletionRepository.findCompletionDatesByUserIdAndDateRange(userId, windowEnd.plusDays(1), cursor.plusDays(1)));
+            while (!cursor.equals(windowEnd) && completionDates.contains(cursor)) {
+                count++;
+                cursor = cursor.plusDays(direction);
+            }
+            if (!cursor.equals(windowEnd)) return count;
+            window *= 2;
+        }
+    }
+
+    private int getCompletedCount(Long userId, LocalDate completionDate) {
+        return dailyCompletionRepository.findCompletedCount(userId, completionDate).orElse(0);
+    }
+}
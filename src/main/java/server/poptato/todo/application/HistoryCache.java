@@ -0,0 +1,92 @@
+package server.poptato.todo.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import server.poptato.external.redis.RedisBroadcaster;
+import server.poptato.global.transaction.AfterCommitExecutor;
+import server.poptato.todo.application.response.HistoryResponseDto;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 지난 날짜의 기록과 지난 달의 캘린더는 바뀌지 않으므로 (user, date) / (user, month) 단위로 캐시한다.
+ * 어제 할 일의 달성 여부 변경처럼 지난 기록이 바뀌는 경우에는 커밋 이후에 해당 항목을 비우고 다른 서버에도 전파한다.
+ */
+@Component
+public class HistoryCache {
+    private static final long MAX_HISTORY_ENTRIES = 10_000;
+    private static final long MAX_CALENDAR_ENTRIES = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+    private static final String HISTORY_INVALIDATION_CHANNEL = "history:invalidation";
+    private static final String ALL_DATES = "*";
+
+    private final RedisBroadcaster redisBroadcaster;
+    private final Cache<HistoryKey, List<HistoryResponseDto>> histories = Caffeine.newBuilder()
+            .maximumSize(MAX_HISTORY_ENTRIES)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+    private final Cache<CalendarKey, List<LocalDate>> calendars = Caffeine.newBuilder()
+            .maximumSize(MAX_CALENDAR_ENTRIES)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .build();
+
+    public HistoryCache(RedisBroadcaster redisBroadcaster) {
+        this.redisBroadcaster = redisBroadcaster;
+        redisBroadcaster.subscribe(HISTORY_INVALIDATION_CHANNEL, this::onInvalidation);
+    }
+
+    public List<HistoryResponseDto> getHistories(Long userId, LocalDate date, Supplier<List<HistoryResponseDto>> loader) {
+        return histories.get(new HistoryKey(userId, date), key -> List.copyOf(loader.get()));
+    }
+
+    public List<LocalDate> getCalendar(Long userId, YearMonth yearMonth, Supplier<List<LocalDate>> loader) {
+        return calendars.get(new CalendarKey(userId, yearMonth), key -> List.copyOf(loader.get()));
+    }
+
+    public void evictAfterCommit(Long userId, LocalDate date) {
+        AfterCommitExecutor.execute(() -> {
+            evict(userId, date);
+            redisBroadcaster.publish(HISTORY_INVALIDATION_CHANNEL, userId + ":" + date);
+        });
+    }
+
+    public void evictUserAfterCommit(Long userId) {
+        AfterCommitExecutor.execute(() -> {
+            evictUser(userId);
+            redisBroadcaster.publish(HISTORY_INVALIDATION_CHANNEL, userId + ":" + ALL_DATES);
+        });
+    }
+
+    // 메시지 형식: "{userId}:{yyyy-MM-dd}" 또는 유저 전체를 비울 때 "{userId}:*"
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(':');
+        Long userId = Long.valueOf(message.substring(0, separator));
+        String date = message.substring(separator + 1);
+        if (ALL_DATES.equals(date)) {
+            evictUser(userId);
+            return;
+        }
+        evict(userId, LocalDate.parse(date));
+    }
+
+    private void evict(Long userId, LocalDate date) {
+        histories.invalidate(new HistoryKey(userId, date));
+        calendars.invalidate(new CalendarKey(userId, YearMonth.from(date)));
+    }
+
+    private void evictUser(Long userId) {
+        histories.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+        calendars.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    private record HistoryKey(Long userId, LocalDate date) {
+    }
+
+    private record CalendarKey(Long userId, YearMonth yearMonth) {
+    }
+}
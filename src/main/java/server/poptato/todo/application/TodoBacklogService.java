@@ -7,7 +7,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.validator.CategoryValidator;
 import server.poptato.todo.api.request.BacklogCreateRequestDto;
 import server.poptato.todo.application.response.*;
@@ -30,7 +29,6 @@ import java.util.List;
 @Service
 public class TodoBacklogService {
     private final TodoRepository todoRepository;
-    private final CategoryRepository categoryRepository;
     private final UserValidator userValidator;
     private final CategoryValidator categoryValidator;
     private static final Long ALL_CATEGORY = -1L;
@@ -38,9 +36,8 @@ public class TodoBacklogService {
 
     public BacklogListResponseDto getBacklogList(Long userId, Long categoryId, int page, int size) {
         userValidator.checkIsExistUser(userId);
-        categoryValidator.validateCategory(userId, categoryId);
+        String categoryName = categoryValidator.validateCategory(userId, categoryId).name();
         Page<Todo> backlogs = getBacklogsPagination(userId, categoryId, page, size);
-        String categoryName = categoryRepository.findById(categoryId).get().getName();
         return TodoDtoConverter.toBacklogListDto(categoryName, backlogs);
     }
 
@@ -2,11 +2,13 @@ package server.poptato.todo.application;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import server.poptato.external.firebase.service.FCMService;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
@@ -30,6 +32,12 @@ public class TodoScheduler {
     private final UserRepository userRepository;
     private final MobileRepository mobileRepository;
     private final FCMService fcmService;
+    private final CompletedDateTimeRepository completedDateTimeRepository;
+    private final CompletionStatisticsService completionStatisticsService;
+    private final CompletionArchiveService completionArchiveService;
+
+    @Value("${completion.archive.retention-days:365}")
+    private int archiveRetentionDays;
 
     @Scheduled(cron = "0 0 0 * * *")
     @Transactional
@@ -38,6 +46,23 @@ public class TodoScheduler {
         updateTodo(updatedTodoIds);
         sendDeadlineNotifications();
     }
+
+    @Scheduled(cron = "0 0 4 * * MON")
+    public void rebuildCompletionStatistics() {
+        for (Long userId : completedDateTimeRepository.findDistinctUserIds()) {
+            completionStatisticsService.rebuild(userId);
+        }
+    }
+
+    @Scheduled(cron = "${completion.archive.cron:0 30 4 * * *}")
+    public void archiveCompletedDateTimes() {
+        LocalDate horizon = LocalDate.now().minusDays(archiveRetentionDays);
+        boolean hasRemaining = true;
+        while (hasRemaining) {
+            hasRemaining = completionArchiveService.archiveOldestDay(horizon);
+        }
+    }
+
     @Async
     public void updateTodo(List<Long> updatedTodoIds) {
         Map<Long, List<Todo>> userIdAndTodaysMap = updateTodays(updatedTodoIds);
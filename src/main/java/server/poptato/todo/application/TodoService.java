@@ -1,25 +1,25 @@
 package server.poptato.todo.application;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import server.poptato.category.domain.entity.Category;
-import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.exception.CategoryException;
 import server.poptato.category.validator.CategoryValidator;
-import server.poptato.emoji.domain.entity.Emoji;
-import server.poptato.emoji.domain.repository.EmojiRepository;
 import server.poptato.emoji.exception.EmojiException;
 import server.poptato.todo.api.request.*;
+import server.poptato.todo.application.response.CompletionStatisticsResponseDto;
 import server.poptato.todo.application.response.HistoryCalendarListResponseDto;
+import server.poptato.todo.application.response.HistoryHeatmapResponseDto;
+import server.poptato.todo.application.response.HistoryResponseDto;
 import server.poptato.todo.application.response.PaginatedHistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailListResponseDto;
 import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.todo.converter.TodoDtoConverter;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.ArchivedCompletedDateTimeRepository;
 import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
@@ -31,10 +31,17 @@ import server.poptato.user.validator.UserValidator;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.hibernate.query.sqm.tree.SqmNode.log;
 import static server.poptato.category.exception.errorcode.CategoryExceptionErrorCode.CATEGORY_NOT_EXIST;
@@ -48,29 +55,45 @@ import static server.poptato.todo.exception.errorcode.TodoExceptionErrorCode.TOD
 public class TodoService {
     private final TodoRepository todoRepository;
     private final CompletedDateTimeRepository completedDateTimeRepository;
+    private final ArchivedCompletedDateTimeRepository archivedCompletedDateTimeRepository;
     private final UserValidator userValidator;
     private final CategoryValidator categoryValidator;
-    private final CategoryRepository categoryRepository;
-    private final EmojiRepository emojiRepository;
-
+    private final CompletionCalendarService completionCalendarService;
+    private final CompletionArchiveService completionArchiveService;
+    private final CompletionStatisticsService completionStatisticsService;
+    private final HistoryCache historyCache;
+    private static final int MAX_TODO_DETAIL_SIZE = 100;
+    private static final int MAX_HISTORY_SIZE = 100;
+    private static final int MIN_HISTORY_YEAR = 2000;
 
     public void deleteTodoById(Long userId, Long todoId) {
         userValidator.checkIsExistUser(userId);
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
-        todoRepository.delete(findTodo);
+        if (todoRepository.deleteByIdAndUserId(todoId, userId) == 0) throw todoNotExistOrNotMatch(todoId);
+        deleteCompletions(userId, todoId);
+        historyCache.evictUserAfterCommit(userId);
+    }
+
+    // 할 일의 달성 기록을 함께 지우고, 기록이 있던 날마다 달력과 통계에서 빼 준다.
+    private void deleteCompletions(Long userId, Long todoId) {
+        List<LocalDate> completedDates = new ArrayList<>(completedDateTimeRepository.findCompletedDatesByTodoId(todoId));
+        completedDates.addAll(archivedCompletedDateTimeRepository.findCompletedDatesByTodoId(todoId));
+        if (completedDates.isEmpty()) return;
+        completedDateTimeRepository.deleteByTodoId(todoId);
+        archivedCompletedDateTimeRepository.deleteByTodoId(todoId);
+        for (LocalDate completedDate : completedDates) {
+            completionCalendarService.unmarkIfNoCompletion(userId, completedDate);
+            completionStatisticsService.decrease(userId, completedDate);
+        }
     }
 
     private Todo validateAndReturnTodo(Long userId, Long todoId) {
-        Todo findTodo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new TodoException(TODO_NOT_EXIST));
-        if (findTodo.getUserId() != userId)
-            throw new TodoException(TodoExceptionErrorCode.TODO_USER_NOT_MATCH);
-        return findTodo;
+        return todoRepository.findByIdAndUserId(todoId, userId)
+                .orElseThrow(() -> todoNotExistOrNotMatch(todoId));
     }
 
     public void toggleIsBookmark(Long userId, Long todoId) {
-        Todo todo = validateAndReturnTodo(userId, todoId);
-        todo.toggleBookmark();
+        if (todoRepository.toggleBookmarkByIdAndUserId(todoId, userId, LocalDateTime.now()) == 0)
+            throw todoNotExistOrNotMatch(todoId);
     }
 
 
@@ -107,8 +130,8 @@ public class TodoService {
 
     public void dragAndDrop(Long userId, TodoDragAndDropRequestDto requestDto) {
         userValidator.checkIsExistUser(userId);
-        List<Todo> todos = getTodosByIds(requestDto.getTodoIds());
-        checkIsValidToDragAndDrop(userId, todos, requestDto);
+        List<Todo> todos = getTodosByIds(userId, requestDto.getTodoIds());
+        checkIsValidToDragAndDrop(todos, requestDto);
         if (isTypeToday(requestDto.getType())) {
             reassignTodayOrder(todos);
             return;
@@ -116,22 +139,21 @@ public class TodoService {
         reassignBacklogOrder(todos);
     }
 
-    private List<Todo> getTodosByIds(List<Long> todoIds) {
+    private List<Todo> getTodosByIds(Long userId, List<Long> todoIds) {
+        Map<Long, Todo> todosById = todoRepository.findAllByIdInAndUserId(todoIds, userId)
+                .stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
         List<Todo> todos = new ArrayList<>();
         for (Long todoId : todoIds) {
-            todos.add(todoRepository.findById(todoId).get());
+            Todo todo = todosById.get(todoId);
+            if (todo == null) throw todoNotExistOrNotMatch(todoId);
+            todos.add(todo);
         }
         return todos;
     }
 
-    private void checkIsValidToDragAndDrop(Long userId, List<Todo> todos, TodoDragAndDropRequestDto todoDragAndDropRequestDto) {
-        if (todos.size() != todoDragAndDropRequestDto.getTodoIds().size()) {
-            throw new TodoException(TodoExceptionErrorCode.TODO_NOT_EXIST);
-        }
+    private void checkIsValidToDragAndDrop(List<Todo> todos, TodoDragAndDropRequestDto todoDragAndDropRequestDto) {
         for (Todo todo : todos) {
-            if (!todo.getUserId().equals(userId)) {
-                throw new TodoException(TodoExceptionErrorCode.TODO_USER_NOT_MATCH);
-            }
             if (todoDragAndDropRequestDto.getType().equals(Type.TODAY) && todo.getTodayStatus() == TodayStatus.COMPLETED) {
                 throw new TodoException(TodoExceptionErrorCode.ALREADY_COMPLETED_TODO);
             }
@@ -188,27 +210,42 @@ public class TodoService {
 
     public TodoDetailResponseDto getTodoInfo(Long userId, Long todoId) {
         userValidator.checkIsExistUser(userId);
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
-        Category findCategory = findTodo.getCategoryId() != null ?
-                categoryRepository.findById(findTodo.getCategoryId()).orElse(null) : null;
+        return todoRepository.findTodoDetailByIdAndUserId(todoId, userId)
+                .orElseThrow(() -> todoNotExistOrNotMatch(todoId));
+    }
 
-        Emoji findEmoji = findCategory != null && findCategory.getEmojiId() != null ?
-                emojiRepository.findById(findCategory.getEmojiId()).orElse(null) : null;
-        return TodoDtoConverter.toTodoDetailInfoDto(findTodo, findCategory, findEmoji);
+    public TodoDetailListResponseDto getTodoInfos(Long userId, List<Long> todoIds) {
+        userValidator.checkIsExistUser(userId);
+        if (todoIds.size() > MAX_TODO_DETAIL_SIZE)
+            throw new TodoException(TodoExceptionErrorCode.TODO_IDS_SIZE_EXCEEDED);
+        Map<Long, TodoDetailResponseDto> todoDetails = todoRepository.findTodoDetailsByIdInAndUserId(todoIds, userId)
+                .stream()
+                .collect(Collectors.toMap(TodoDetailResponseDto::todoId, Function.identity()));
+        List<TodoDetailResponseDto> orderedTodoDetails = todoIds.stream()
+                .distinct()
+                .map(todoDetails::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return TodoDtoConverter.toTodoDetailListDto(orderedTodoDetails);
+    }
+
+    private TodoException todoNotExistOrNotMatch(Long todoId) {
+        if (todoRepository.existsById(todoId))
+            return new TodoException(TodoExceptionErrorCode.TODO_USER_NOT_MATCH);
+        return new TodoException(TODO_NOT_EXIST);
     }
 
     public void updateDeadline(Long userId, Long todoId, DeadlineUpdateRequestDto deadlineUpdateRequestDto) {
         userValidator.checkIsExistUser(userId);
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
-        findTodo.updateDeadline(deadlineUpdateRequestDto.getDeadline());
-        todoRepository.save(findTodo);
+        if (todoRepository.updateDeadlineByIdAndUserId(todoId, userId, deadlineUpdateRequestDto.getDeadline(), LocalDateTime.now()) == 0)
+            throw todoNotExistOrNotMatch(todoId);
     }
 
     public void updateContent(Long userId, Long todoId, ContentUpdateRequestDto contentUpdateRequestDto) {
         userValidator.checkIsExistUser(userId);
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
-        findTodo.updateContent(contentUpdateRequestDto.getContent());
-        todoRepository.save(findTodo);
+        if (todoRepository.updateContentByIdAndUserId(todoId, userId, contentUpdateRequestDto.getContent(), LocalDateTime.now()) == 0)
+            throw todoNotExistOrNotMatch(todoId);
+        historyCache.evictUserAfterCommit(userId);
     }
 
     public void updateIsCompleted(Long userId, Long todoId, LocalDateTime now) {
@@ -228,35 +265,46 @@ public class TodoService {
         if (TodayStatus.INCOMPLETE.equals(findTodo.getTodayStatus())) {
             LocalDateTime yesterday = LocalDateTime.of(findTodo.getTodayDate(), LocalTime.of(23, 59));
             findTodo.updateYesterdayToCompleted();
-            CompletedDateTime completedDateTime = CompletedDateTime.builder().todoId(findTodo.getId()).dateTime(yesterday).build();
-            completedDateTimeRepository.save(completedDateTime);
+            saveCompletedDateTime(findTodo, yesterday);
             return;
         }
         if (TodayStatus.COMPLETED.equals(findTodo.getTodayStatus())) {
             Integer minBacklogOrder = todoRepository.findMinBacklogOrderByUserIdOrZero(findTodo.getUserId());
             findTodo.updateYesterdayToInComplete(minBacklogOrder);
-            CompletedDateTime completedDateTime = completedDateTimeRepository.findByDateAndTodoId(findTodo.getId(), findTodo.getTodayDate())
-                    .orElseThrow(() -> new TodoException(COMPLETED_DATETIME_NOT_EXIST));
-            completedDateTimeRepository.delete(completedDateTime);
+            deleteCompletedDateTime(findTodo);
         }
     }
 
     private void updateTodayIsCompleted(Todo findTodo, LocalDateTime now) {
         if (TodayStatus.INCOMPLETE.equals(findTodo.getTodayStatus())) {
             findTodo.updateTodayToCompleted();
-            CompletedDateTime completedDateTime = CompletedDateTime.builder().todoId(findTodo.getId()).dateTime(now).build();
-            completedDateTimeRepository.save(completedDateTime);
+            saveCompletedDateTime(findTodo, now);
             return;
         }
         if (TodayStatus.COMPLETED.equals(findTodo.getTodayStatus())) {
             Integer minTodayOrder = todoRepository.findMinTodayOrderByUserIdOrZero(findTodo.getUserId());
             findTodo.updateTodayToInComplete(minTodayOrder);
-            CompletedDateTime completedDateTime = completedDateTimeRepository.findByDateAndTodoId(findTodo.getId(), findTodo.getTodayDate())
-                    .orElseThrow(() -> new TodoException(COMPLETED_DATETIME_NOT_EXIST));
-            completedDateTimeRepository.delete(completedDateTime);
+            deleteCompletedDateTime(findTodo);
         }
     }
 
+    private void saveCompletedDateTime(Todo findTodo, LocalDateTime dateTime) {
+        CompletedDateTime completedDateTime = CompletedDateTime.builder().todoId(findTodo.getId()).userId(findTodo.getUserId()).dateTime(dateTime).build();
+        completedDateTimeRepository.save(completedDateTime);
+        completionCalendarService.markCompleted(findTodo.getUserId(), completedDateTime.getCompletedDate());
+        completionStatisticsService.increase(findTodo.getUserId(), completedDateTime.getCompletedDate());
+        historyCache.evictAfterCommit(findTodo.getUserId(), completedDateTime.getCompletedDate());
+    }
+
+    private void deleteCompletedDateTime(Todo findTodo) {
+        CompletedDateTime completedDateTime = completedDateTimeRepository.findByDateAndTodoId(findTodo.getId(), findTodo.getTodayDate())
+                .orElseThrow(() -> new TodoException(COMPLETED_DATETIME_NOT_EXIST));
+        completedDateTimeRepository.delete(completedDateTime);
+        completionCalendarService.unmarkIfNoCompletion(findTodo.getUserId(), completedDateTime.getCompletedDate());
+        completionStatisticsService.decrease(findTodo.getUserId(), completedDateTime.getCompletedDate());
+        historyCache.evictAfterCommit(findTodo.getUserId(), completedDateTime.getCompletedDate());
+    }
+
     private void checkIsValidToUpdateIsCompleted(Todo todo) {
         if (todo.getType().equals(Type.BACKLOG))
             throw new TodoException(TodoExceptionErrorCode.BACKLOG_CANT_COMPLETE);
@@ -266,39 +314,77 @@ public class TodoService {
         return type.equals(Type.YESTERDAY);
     }
 
-    public PaginatedHistoryResponseDto getHistories(Long userId, LocalDate localDate, int page, int size) {
+    public PaginatedHistoryResponseDto getHistories(Long userId, LocalDate localDate, Long cursor, int size) {
         userValidator.checkIsExistUser(userId);
-        Page<Todo> historiesPage = getHistoriesPage(userId, localDate, page, size);
-        return TodoDtoConverter.toHistoryListDto(historiesPage);
+        if (size < 1 || size > MAX_HISTORY_SIZE) throw new TodoException(TodoExceptionErrorCode.INVALID_PAGE);
+        if (localDate.isBefore(LocalDate.now())) {
+            List<HistoryResponseDto> dayHistories = historyCache.getHistories(userId, localDate,
+                    () -> completionArchiveService.findHistories(userId, localDate, null, Pageable.unpaged()));
+            Optional<List<HistoryResponseDto>> histories = sliceAfterCursor(dayHistories, cursor, size + 1);
+            if (histories.isPresent()) return TodoDtoConverter.toHistoryListDto(histories.get(), size);
+        }
+        List<HistoryResponseDto> histories = completionArchiveService.findHistories(userId, localDate, cursor, PageRequest.of(0, size + 1));
+        return TodoDtoConverter.toHistoryListDto(histories, size);
     }
 
-    private Page<Todo> getHistoriesPage(Long userId, LocalDate localDate, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Todo> historiesPage = todoRepository.findHistories(userId, localDate, pageable);
-        return historiesPage;
+    private Optional<List<HistoryResponseDto>> sliceAfterCursor(List<HistoryResponseDto> histories, Long cursor, int limit) {
+        int start = 0;
+        if (cursor != null) {
+            start = 1 + histories.stream()
+                    .map(HistoryResponseDto::completedDateTimeId)
+                    .toList()
+                    .indexOf(cursor);
+            if (start == 0) return Optional.empty();
+        }
+        return Optional.of(histories.subList(start, Math.min(start + limit, histories.size())));
     }
 
     public HistoryCalendarListResponseDto getHistoriesCalendar(Long userId, String year, int month) {
-        List<LocalDateTime> dateTimes = completedDateTimeRepository.findHistoryExistingDates(userId, year, month);
-        List<LocalDate> dates = dateTimes.stream()
-                .map(LocalDateTime::toLocalDate)
-                .distinct()
-                .toList();
+        YearMonth yearMonth = parseYear(year).atMonth(checkMonth(month));
+        List<LocalDate> dates = yearMonth.isBefore(YearMonth.now())
+                ? historyCache.getCalendar(userId, yearMonth, () -> completionCalendarService.getCompletedDates(userId, yearMonth))
+                : completionCalendarService.getCompletedDates(userId, yearMonth);
         return HistoryCalendarListResponseDto.builder().dates(dates).build();
     }
 
+    public HistoryHeatmapResponseDto getHistoriesHeatmap(Long userId, String year) {
+        userValidator.checkIsExistUser(userId);
+        List<LocalDate> dates = completionCalendarService.getCompletedDates(userId, parseYear(year), YearMonth.now());
+        return HistoryHeatmapResponseDto.builder().dates(dates).build();
+    }
+
+    private Year parseYear(String year) {
+        try {
+            Year parsedYear = Year.parse(year);
+            if (parsedYear.getValue() < MIN_HISTORY_YEAR || parsedYear.isAfter(Year.now().plusYears(1))) {
+                throw new TodoException(TodoExceptionErrorCode.INVALID_YEAR_MONTH);
+            }
+            return parsedYear;
+        } catch (DateTimeParseException e) {
+            throw new TodoException(TodoExceptionErrorCode.INVALID_YEAR_MONTH);
+        }
+    }
+
+    private int checkMonth(int month) {
+        if (month < 1 || month > 12) throw new TodoException(TodoExceptionErrorCode.INVALID_YEAR_MONTH);
+        return month;
+    }
+
+    public CompletionStatisticsResponseDto getCompletionStatistics(Long userId) {
+        userValidator.checkIsExistUser(userId);
+        return completionStatisticsService.getStatistics(userId, LocalDate.now());
+    }
+
     public void updateCategory(Long userId, Long todoId, TodoCategoryUpdateRequestDto requestDto) {
         userValidator.checkIsExistUser(userId);
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
         if (requestDto.categoryId() != null) categoryValidator.validateCategory(userId, requestDto.categoryId());
-        findTodo.updateCategory(requestDto.categoryId());
-        todoRepository.save(findTodo);
+        if (todoRepository.updateCategoryByIdAndUserId(todoId, userId, requestDto.categoryId(), LocalDateTime.now()) == 0)
+            throw todoNotExistOrNotMatch(todoId);
     }
 
     public void updateRepeat(Long userId, Long todoId) {
         userValidator.checkIsExistUser(userId);
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
-        findTodo.updateIsRepeat();
-        todoRepository.save(findTodo);
+        if (todoRepository.toggleRepeatByIdAndUserId(todoId, userId, LocalDateTime.now()) == 0)
+            throw todoNotExistOrNotMatch(todoId);
     }
 }
@@ -0,0 +1,5 @@
+package server.poptato.todo.application.response;
+
+public record CompletionStatisticsResponseDto(long weeklyCompletedCount, long monthlyCompletedCount,
+                                              int currentStreak, int bestStreak) {
+}
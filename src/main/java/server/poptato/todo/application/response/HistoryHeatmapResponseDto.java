@@ -0,0 +1,10 @@
+package server.poptato.todo.application.response;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record HistoryHeatmapResponseDto(List<LocalDate> dates) {
+}
@@ -1,8 +1,8 @@
 package server.poptato.todo.application.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
-import java.time.LocalDate;
 
 @Builder
-public record HistoryResponseDto(Long todoId, String content) {
-}
\ No newline at end of file
+public record HistoryResponseDto(Long todoId, String content, @JsonIgnore Long completedDateTimeId) {
+}
@@ -2,27 +2,19 @@ package server.poptato.todo.application.response;
 
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.domain.Page;
-import server.poptato.todo.domain.entity.Todo;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 public class PaginatedHistoryResponseDto {
     List<HistoryResponseDto> histories;
-    int totalPageCount;
+    Long nextCursor;
+    boolean hasNext;
 
     @Builder
-    public PaginatedHistoryResponseDto(Page<Todo> todosPage) {
-        this.histories = todosPage.getContent().stream()
-                .map(todo -> new HistoryResponseDto(
-                        todo.getId(),
-                        todo.getContent()
-                ))
-                .collect(Collectors.toList());
-
-        this.totalPageCount = todosPage.getTotalPages();
+    public PaginatedHistoryResponseDto(List<HistoryResponseDto> histories, int size) {
+        this.hasNext = histories.size() > size;
+        this.histories = hasNext ? histories.subList(0, size) : histories;
+        this.nextCursor = hasNext ? this.histories.get(size - 1).completedDateTimeId() : null;
     }
-
-}
\ No newline at end of file
+}
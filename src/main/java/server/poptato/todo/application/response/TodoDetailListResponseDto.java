@@ -0,0 +1,9 @@
+package server.poptato.todo.application.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TodoDetailListResponseDto(List<TodoDetailResponseDto> todos) {
+}
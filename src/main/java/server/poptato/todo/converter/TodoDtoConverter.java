@@ -2,8 +2,6 @@ package server.poptato.todo.converter;
 
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
-import server.poptato.category.domain.entity.Category;
-import server.poptato.emoji.domain.entity.Emoji;
 import server.poptato.todo.application.response.*;
 import server.poptato.todo.domain.entity.Todo;
 
@@ -35,21 +33,17 @@ public class TodoDtoConverter {
                 .build();
     }
 
-    public static TodoDetailResponseDto toTodoDetailInfoDto(Todo todo, Category category, Emoji emoji) {
-        return TodoDetailResponseDto.builder()
-                .content(todo.getContent())
-                .isBookmark(todo.isBookmark())
-                .isRepeat(todo.isRepeat())
-                .categoryName(category != null ? category.getName() : null)
-                .emojiImageUrl(emoji != null ? emoji.getImageUrl() : null)
-                .deadline(todo.getDeadline())
+    public static TodoDetailListResponseDto toTodoDetailListDto(List<TodoDetailResponseDto> todoDetails) {
+        return TodoDetailListResponseDto.builder()
+                .todos(todoDetails)
                 .build();
     }
 
-    public static PaginatedHistoryResponseDto toHistoryListDto(Page<Todo> todosPage) {
+    public static PaginatedHistoryResponseDto toHistoryListDto(List<HistoryResponseDto> histories, int size) {
         return PaginatedHistoryResponseDto
                 .builder()
-                .todosPage(todosPage)
+                .histories(histories)
+                .size(size)
                 .build();
     }
 
@@ -0,0 +1,38 @@
+package server.poptato.todo.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 completed_date_time 에서 옮겨진 달성 기록.
+ * id 는 원본 CompletedDateTime 의 id 를 그대로 사용하며, archive_month(yyyyMM) 기준으로 파티셔닝할 수 있다.
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_archived_completed_date_time_user_id_completed_date", columnList = "user_id, completed_date, date_time"),
+        @Index(name = "idx_archived_completed_date_time_archive_month", columnList = "archive_month")
+})
+public class ArchivedCompletedDateTime {
+    @Id
+    private Long id;
+    @NotNull
+    private Long todoId;
+    private Long userId;
+    @NotNull
+    private LocalDateTime dateTime;
+    @NotNull
+    private LocalDate completedDate;
+    @NotNull
+    private int archiveMonth;
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+    private LocalDateTime modifyDate;
+}
@@ -7,6 +7,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,6 +15,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_completed_date_time_completed_date", columnList = "completed_date"),
+        @Index(name = "idx_completed_date_time_todo_id_completed_date", columnList = "todo_id, completed_date"),
+        @Index(name = "idx_completed_date_time_user_id_completed_date", columnList = "user_id, completed_date, date_time")
+})
 public class CompletedDateTime {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,9 +28,14 @@ public class CompletedDateTime {
     @NotNull
     private Long todoId;
 
+    // 기존 데이터는 CompletedDateTimeBackfillRunner가 채우기 전까지 null일 수 있다.
+    private Long userId;
+
     @NotNull
     private LocalDateTime dateTime;
 
+    private LocalDate completedDate;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createDate;
@@ -32,8 +43,10 @@ public class CompletedDateTime {
     private LocalDateTime modifyDate;
 
     @Builder
-    public CompletedDateTime(Long todoId, LocalDateTime dateTime) {
+    public CompletedDateTime(Long todoId, Long userId, LocalDateTime dateTime) {
         this.todoId = todoId;
+        this.userId = userId;
         this.dateTime = dateTime;
+        this.completedDate = dateTime.toLocalDate();
     }
 }
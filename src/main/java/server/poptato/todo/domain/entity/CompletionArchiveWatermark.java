@@ -0,0 +1,41 @@
+package server.poptato.todo.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * archivedBefore 이전 날짜의 달성 기록은 모두 archived_completed_date_time 에 있다.
+ * 하루치 기록의 이동과 같은 트랜잭션에서 갱신되므로, 조회 시 이 날짜만 보고 읽을 테이블을 고를 수 있다.
+ */
+@Getter
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CompletionArchiveWatermark {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @NotNull
+    private LocalDate archivedBefore;
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+    @LastModifiedDate
+    private LocalDateTime modifyDate;
+
+    public CompletionArchiveWatermark(LocalDate archivedBefore) {
+        this.archivedBefore = archivedBefore;
+    }
+
+    public void advanceTo(LocalDate archivedBefore) {
+        if (archivedBefore.isAfter(this.archivedBefore)) this.archivedBefore = archivedBefore;
+    }
+}
@@ -0,0 +1,83 @@
+package server.poptato.todo.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Entity
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_completion_calendar_user_id_calendar_month",
+        columnNames = {"user_id", "calendar_month"}))
+public class CompletionCalendar {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @NotNull
+    private Long userId;
+    // yyyyMM 형식 (예: 202410)
+    @NotNull
+    private int calendarMonth;
+    // n일에 달성 기록이 있으면 (n-1)번째 비트가 1
+    @NotNull
+    private int dayBits;
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+    @LastModifiedDate
+    private LocalDateTime modifyDate;
+
+    public static CompletionCalendar create(Long userId, YearMonth yearMonth, List<LocalDate> completedDates) {
+        int dayBits = 0;
+        for (LocalDate completedDate : completedDates) {
+            dayBits |= toDayBit(completedDate);
+        }
+        return CompletionCalendar.builder()
+                .userId(userId)
+                .calendarMonth(toCalendarMonth(yearMonth))
+                .dayBits(dayBits)
+                .build();
+    }
+
+    public static int toCalendarMonth(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.of(calendarMonth / 100, calendarMonth % 100);
+    }
+
+    public void markDay(LocalDate date) {
+        this.dayBits |= toDayBit(date);
+    }
+
+    public void unmarkDay(LocalDate date) {
+        this.dayBits &= ~toDayBit(date);
+    }
+
+    public List<LocalDate> getCompletedDates() {
+        YearMonth yearMonth = getYearMonth();
+        List<LocalDate> completedDates = new ArrayList<>(Integer.bitCount(dayBits));
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            if ((dayBits & (1 << (day - 1))) != 0) completedDates.add(yearMonth.atDay(day));
+        }
+        return completedDates;
+    }
+
+    private static int toDayBit(LocalDate date) {
+        return 1 << (date.getDayOfMonth() - 1);
+    }
+}
@@ -0,0 +1,101 @@
+package server.poptato.todo.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Entity
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CompletionStreak {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @NotNull
+    @Column(unique = true)
+    private Long userId;
+    @NotNull
+    private int currentStreak;
+    @NotNull
+    private int bestStreak;
+    private LocalDate lastCompletedDate;
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+    @LastModifiedDate
+    private LocalDateTime modifyDate;
+
+    public static CompletionStreak create(Long userId) {
+        return CompletionStreak.builder()
+                .userId(userId)
+                .currentStreak(0)
+                .bestStreak(0)
+                .build();
+    }
+
+    /**
+     * 새로운 날짜에 첫 달성 기록이 생겼을 때 호출된다.
+     * 마지막 달성일 이후의 날짜만 증분 반영할 수 있으며, 그 외에는 false 를 반환해 재계산이 필요함을 알린다.
+     */
+    public boolean extend(LocalDate completedDate) {
+        if (lastCompletedDate != null && !completedDate.isAfter(lastCompletedDate)) return false;
+        if (lastCompletedDate != null && completedDate.equals(lastCompletedDate.plusDays(1))) {
+            this.currentStreak++;
+        } else {
+            this.currentStreak = 1;
+        }
+        this.lastCompletedDate = completedDate;
+        this.bestStreak = Math.max(bestStreak, currentStreak);
+        return true;
+    }
+
+    /**
+     * 마지막 달성일 이전의 빈 날짜에 달성 기록이 생겨, 그 날짜를 포함한 연속 기록이 runEnd 에서 끝나는 runLength 일이 되었을 때 호출된다.
+     */
+    public void fill(LocalDate runEnd, int runLength) {
+        if (runEnd.equals(lastCompletedDate)) {
+            this.currentStreak = runLength;
+        }
+        this.bestStreak = Math.max(bestStreak, runLength);
+    }
+
+    /**
+     * 현재 연속 기록에 속한 날짜의 달성 기록이 사라져, 마지막 달성일과 현재 연속 기록이 줄어들었을 때 호출된다.
+     */
+    public void truncate(LocalDate lastCompletedDate, int currentStreak) {
+        this.lastCompletedDate = lastCompletedDate;
+        this.currentStreak = currentStreak;
+    }
+
+    /**
+     * 달성 기록이 있는 날짜들(오름차순)로 연속 기록을 다시 계산한다.
+     */
+    public void recalculate(List<LocalDate> completedDates) {
+        int current = 0;
+        int best = 0;
+        LocalDate previous = null;
+        for (LocalDate completedDate : completedDates) {
+            current = (previous != null && completedDate.equals(previous.plusDays(1))) ? current + 1 : 1;
+            best = Math.max(best, current);
+            previous = completedDate;
+        }
+        this.currentStreak = current;
+        this.bestStreak = best;
+        this.lastCompletedDate = previous;
+    }
+
+    public int getCurrentStreak(LocalDate today) {
+        if (lastCompletedDate == null || lastCompletedDate.isBefore(today.minusDays(1))) return 0;
+        return currentStreak;
+    }
+}
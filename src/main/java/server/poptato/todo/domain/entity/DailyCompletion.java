@@ -0,0 +1,45 @@
+package server.poptato.todo.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_daily_completion_user_id_completion_date",
+        columnNames = {"user_id", "completion_date"}))
+public class DailyCompletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @NotNull
+    private Long userId;
+    @NotNull
+    private LocalDate completionDate;
+    @NotNull
+    private int completedCount;
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+    @LastModifiedDate
+    private LocalDateTime modifyDate;
+
+    public static DailyCompletion create(Long userId, LocalDate completionDate, int completedCount) {
+        return DailyCompletion.builder()
+                .userId(userId)
+                .completionDate(completionDate)
+                .completedCount(completedCount)
+                .build();
+    }
+}
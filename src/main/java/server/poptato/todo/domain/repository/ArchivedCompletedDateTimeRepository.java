@@ -0,0 +1,31 @@
+package server.poptato.todo.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import server.poptato.todo.application.response.HistoryResponseDto;
+import server.poptato.todo.domain.value.DailyCompletionCount;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface ArchivedCompletedDateTimeRepository {
+    int archiveByCompletedDate(LocalDate completedDate, int archiveMonth);
+    List<HistoryResponseDto> findHistories(Long userId, LocalDate localDate, Long cursor, Pageable pageable);
+    boolean existsByIdAndUserIdAndCompletedDate(Long id, Long userId, LocalDate completedDate);
+    boolean existsByUserIdAndCompletedDate(Long userId, LocalDate completedDate);
+    List<LocalDate> findCompletedDatesByTodoId(Long todoId);
+    int deleteByTodoId(Long todoId);
+    List<LocalDate> findDistinctCompletedDatesByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    List<DailyCompletionCount> countDailyCompletionsByUserId(Long userId);
+
+    default List<LocalDate> findCompletedDates(Long userId, YearMonth yearMonth) {
+        return findDistinctCompletedDatesByUserIdAndDateRange(
+                userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    List<Long> findIdsByUserId(Long userId, Pageable pageable);
+
+    int deleteByIdIn(List<Long> ids);
+
+    List<Long> findIdsByCategoryId(Long categoryId, Pageable pageable);
+}
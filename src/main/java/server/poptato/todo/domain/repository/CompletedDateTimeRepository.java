@@ -1,9 +1,9 @@
 package server.poptato.todo.domain.repository;
 
+import org.springframework.data.domain.Pageable;
 import server.poptato.todo.domain.entity.CompletedDateTime;
+import server.poptato.todo.domain.value.DailyCompletionCount;
 
-import java.sql.Time;
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
@@ -13,14 +13,36 @@ import java.util.Optional;
 public interface CompletedDateTimeRepository {
     Optional<CompletedDateTime> findByDateAndTodoId(Long id, LocalDate todayDate);
     boolean existsByDateTimeAndTodoId(LocalDateTime dateTime, Long todoId);
+    boolean existsByUserIdAndCompletedDate(Long userId, LocalDate completedDate);
+    boolean existsByIdAndUserIdAndCompletedDate(Long id, Long userId, LocalDate completedDate);
     void delete(CompletedDateTime completedDateTime);
     CompletedDateTime save(CompletedDateTime completedDateTime);
-    List<Timestamp> findDistinctCompletedDateTimesByUserIdAndYearMonth(Long userId, String year, int month);
+    List<LocalDateTime> findDistinctCompletedDateTimesByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    List<LocalDate> findDistinctCompletedDatesByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    List<Long> findIdsToBackfill(Pageable pageable);
+    int backfillCompletedDateAndUserId(List<Long> ids);
+    int deleteOrphans(List<Long> ids);
+    List<DailyCompletionCount> countDailyCompletionsByUserId(Long userId);
+    List<Long> findDistinctUserIds();
+    Optional<LocalDate> findMinCompletedDateBefore(LocalDate horizon);
+    int deleteByCompletedDate(LocalDate completedDate);
+    List<LocalDate> findCompletedDatesByTodoId(Long todoId);
+    int deleteByTodoId(Long todoId);
 
     default List<LocalDateTime> findHistoryExistingDates(Long userId, String year, int month) {
-        List<Timestamp> timestamps = findDistinctCompletedDateTimesByUserIdAndYearMonth(userId, year, month);
-        return timestamps.stream()
-                .map(Timestamp::toLocalDateTime)
-                .toList();
+        YearMonth yearMonth = YearMonth.of(Integer.parseInt(year), month);
+        return findDistinctCompletedDateTimesByUserIdAndDateRange(
+                userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
     }
+
+    default List<LocalDate> findCompletedDates(Long userId, YearMonth yearMonth) {
+        return findDistinctCompletedDatesByUserIdAndDateRange(
+                userId, yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1));
+    }
+
+    List<Long> findIdsByUserId(Long userId, Pageable pageable);
+
+    int deleteByIdIn(List<Long> ids);
+
+    List<Long> findIdsByCategoryId(Long categoryId, Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package server.poptato.todo.domain.repository;
+
+import server.poptato.todo.domain.entity.CompletionArchiveWatermark;
+
+import java.util.Optional;
+
+public interface CompletionArchiveWatermarkRepository {
+    Optional<CompletionArchiveWatermark> findFirstByOrderByIdAsc();
+
+    CompletionArchiveWatermark save(CompletionArchiveWatermark watermark);
+}
@@ -0,0 +1,16 @@
+package server.poptato.todo.domain.repository;
+
+import server.poptato.todo.domain.entity.CompletionCalendar;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CompletionCalendarRepository {
+    Optional<CompletionCalendar> findByUserIdAndCalendarMonth(Long userId, int calendarMonth);
+
+    List<CompletionCalendar> findByUserIdAndCalendarMonthBetween(Long userId, int startCalendarMonth, int endCalendarMonth);
+
+    CompletionCalendar save(CompletionCalendar completionCalendar);
+
+    int deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,13 @@
+package server.poptato.todo.domain.repository;
+
+import server.poptato.todo.domain.entity.CompletionStreak;
+
+import java.util.Optional;
+
+public interface CompletionStreakRepository {
+    Optional<CompletionStreak> findByUserId(Long userId);
+
+    CompletionStreak save(CompletionStreak completionStreak);
+
+    int deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,37 @@
+package server.poptato.todo.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import server.poptato.todo.domain.entity.DailyCompletion;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyCompletionRepository {
+    Optional<DailyCompletion> findByUserIdAndCompletionDate(Long userId, LocalDate completionDate);
+
+    Optional<Integer> findCompletedCount(Long userId, LocalDate completionDate);
+
+    int increaseCompletedCount(Long userId, LocalDate completionDate, LocalDateTime modifyDate);
+
+    int decreaseCompletedCount(Long userId, LocalDate completionDate, LocalDateTime modifyDate);
+
+    List<LocalDate> findCompletionDatesByUserId(Long userId);
+
+    List<LocalDate> findCompletionDatesByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+
+    Optional<LocalDate> findLastCompletionDateBefore(Long userId, LocalDate date);
+
+    long sumCompletedCountByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+
+    void deleteAllByUserId(Long userId);
+
+    DailyCompletion save(DailyCompletion dailyCompletion);
+
+    <S extends DailyCompletion> List<S> saveAll(Iterable<S> dailyCompletions);
+
+    List<Long> findIdsByUserId(Long userId, Pageable pageable);
+
+    int deleteByIdIn(List<Long> ids);
+}
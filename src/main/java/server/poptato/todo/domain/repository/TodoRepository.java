@@ -4,11 +4,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import server.poptato.category.domain.entity.Category;
+import server.poptato.todo.application.response.HistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +25,28 @@ public interface TodoRepository {
 
     Optional<Todo> findById(Long todoId);
 
+    boolean existsById(Long todoId);
+
+    Optional<Todo> findByIdAndUserId(Long todoId, Long userId);
+
+    List<Todo> findAllByIdInAndUserId(List<Long> todoIds, Long userId);
+
+    int deleteByIdAndUserId(Long todoId, Long userId);
+
+    int toggleBookmarkByIdAndUserId(Long todoId, Long userId, LocalDateTime modifyDate);
+
+    int toggleRepeatByIdAndUserId(Long todoId, Long userId, LocalDateTime modifyDate);
+
+    int updateDeadlineByIdAndUserId(Long todoId, Long userId, LocalDate deadline, LocalDateTime modifyDate);
+
+    int updateContentByIdAndUserId(Long todoId, Long userId, String content, LocalDateTime modifyDate);
+
+    int updateCategoryByIdAndUserId(Long todoId, Long userId, Long categoryId, LocalDateTime modifyDate);
+
+    Optional<TodoDetailResponseDto> findTodoDetailByIdAndUserId(Long todoId, Long userId);
+
+    List<TodoDetailResponseDto> findTodoDetailsByIdInAndUserId(List<Long> todoIds, Long userId);
+
     void delete(Todo todo);
 
     Todo save(Todo todo);
@@ -47,10 +72,7 @@ public interface TodoRepository {
                 userId, todayDate);
     }
 
-    default Page<Todo> findHistories(Long userId,LocalDate localDate, Pageable pageable) {
-        return findTodosByUserIdAndCompletedDateTime(userId, localDate, pageable);
-    }
-    Page<Todo> findTodosByUserIdAndCompletedDateTime(Long userId, LocalDate localDate, Pageable pageable);
+    List<HistoryResponseDto> findHistories(Long userId, LocalDate localDate, Long cursor, Pageable pageable);
     List<Todo> findByType(Type type);
     List<Todo> findByTypeAndUserId(Type type, Long userId);
 
@@ -60,6 +82,11 @@ public interface TodoRepository {
 
     Page<Todo> findBacklogsByCategoryId(Long userId, Long categoryId, List<Type> types, TodayStatus status, Pageable pageable);
 
-    void deleteAllByCategoryId(Long categoryId);
     List<Todo> findTodosDueToday(@Param("userId") Long userId, LocalDate deadline);
+
+    List<Long> findIdsByUserId(Long userId, Pageable pageable);
+
+    int deleteByIdIn(List<Long> ids);
+
+    List<Long> findIdsByCategoryId(Long categoryId, Pageable pageable);
 }
@@ -0,0 +1,6 @@
+package server.poptato.todo.domain.value;
+
+import java.time.LocalDate;
+
+public record DailyCompletionCount(LocalDate completedDate, Long completedCount) {
+}
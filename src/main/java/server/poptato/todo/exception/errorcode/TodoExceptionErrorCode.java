@@ -18,7 +18,10 @@ public enum TodoExceptionErrorCode implements ResponseStatus {
     TODO_TYPE_NOT_MATCH(5004, HttpStatus.BAD_REQUEST.value(), "드래그앤드롭 시 할 일 리스트와 할 일 타입이 맞지 않습니다." ),
     BACKLOG_CANT_COMPLETE(5005,HttpStatus.BAD_REQUEST.value(), "백로그 할 일은 달성할 수 없습니다."),
     YESTERDAY_CANT_COMPLETE(5006, HttpStatus.BAD_REQUEST.value(), "이미 달성한 어제 한 일은 취소할 수 없습니다."),
-    COMPLETED_DATETIME_NOT_EXIST(5007, HttpStatus.BAD_REQUEST.value(), "존재하지 않는 달성 시각입니다.");
+    COMPLETED_DATETIME_NOT_EXIST(5007, HttpStatus.BAD_REQUEST.value(), "존재하지 않는 달성 시각입니다."),
+    TODO_IDS_SIZE_EXCEEDED(5008, HttpStatus.BAD_REQUEST.value(), "한 번에 조회할 수 있는 할 일 개수를 초과했습니다."),
+    INVALID_YEAR_MONTH(5009, HttpStatus.BAD_REQUEST.value(), "유효하지 않은 연도 또는 월입니다."),
+    INVALID_CURSOR(5010, HttpStatus.BAD_REQUEST.value(), "유효하지 않은 커서입니다.");
 
 
     private final int code;
@@ -0,0 +1,87 @@
+package server.poptato.todo.infra.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.poptato.todo.application.response.HistoryResponseDto;
+import server.poptato.todo.domain.entity.ArchivedCompletedDateTime;
+import server.poptato.todo.domain.repository.ArchivedCompletedDateTimeRepository;
+import server.poptato.todo.domain.value.DailyCompletionCount;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaArchivedCompletedDateTimeRepository extends ArchivedCompletedDateTimeRepository, JpaRepository<ArchivedCompletedDateTime, Long> {
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    INSERT INTO ArchivedCompletedDateTime (id, todoId, userId, dateTime, completedDate, archiveMonth, createDate, modifyDate)
+    SELECT c.id, c.todoId, c.userId, c.dateTime, c.completedDate, :archiveMonth, c.createDate, c.modifyDate
+    FROM CompletedDateTime c
+    WHERE c.completedDate = :completedDate
+    """)
+    int archiveByCompletedDate(@Param("completedDate") LocalDate completedDate, @Param("archiveMonth") int archiveMonth);
+
+    @Query("""
+    SELECT new server.poptato.todo.application.response.HistoryResponseDto(t.id, t.content, a.id)
+    FROM ArchivedCompletedDateTime a
+    JOIN Todo t ON t.id = a.todoId
+    LEFT JOIN ArchivedCompletedDateTime prev ON prev.id = :cursor
+    WHERE a.userId = :userId
+      AND a.completedDate = :localDate
+      AND (prev.id IS NULL
+           OR a.dateTime > prev.dateTime
+           OR (a.dateTime = prev.dateTime AND a.id > prev.id))
+    ORDER BY a.dateTime ASC, a.id ASC
+    """)
+    List<HistoryResponseDto> findHistories(@Param("userId") Long userId,
+                                           @Param("localDate") LocalDate localDate,
+                                           @Param("cursor") Long cursor,
+                                           Pageable pageable);
+
+    @Query("""
+    SELECT DISTINCT a.completedDate
+    FROM ArchivedCompletedDateTime a
+    WHERE a.userId = :userId
+      AND a.completedDate >= :startDate
+      AND a.completedDate < :endDate
+    ORDER BY a.completedDate ASC
+    """)
+    List<LocalDate> findDistinctCompletedDatesByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("""
+    SELECT new server.poptato.todo.domain.value.DailyCompletionCount(a.completedDate, COUNT(a))
+    FROM ArchivedCompletedDateTime a
+    WHERE a.userId = :userId
+    GROUP BY a.completedDate
+    ORDER BY a.completedDate ASC
+    """)
+    List<DailyCompletionCount> countDailyCompletionsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.completedDate FROM ArchivedCompletedDateTime a WHERE a.todoId = :todoId")
+    List<LocalDate> findCompletedDatesByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ArchivedCompletedDateTime a WHERE a.todoId = :todoId")
+    int deleteByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT a.id FROM ArchivedCompletedDateTime a WHERE a.userId = :userId ORDER BY a.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedCompletedDateTime a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("""
+    SELECT a.id
+    FROM ArchivedCompletedDateTime a
+    WHERE a.todoId IN (SELECT t.id FROM Todo t WHERE t.categoryId = :categoryId)
+    ORDER BY a.id ASC
+    """)
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+}
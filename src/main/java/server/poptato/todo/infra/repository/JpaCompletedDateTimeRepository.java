@@ -1,12 +1,14 @@
 package server.poptato.todo.infra.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.value.DailyCompletionCount;
 
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,20 +18,95 @@ public interface JpaCompletedDateTimeRepository extends CompletedDateTimeReposit
     @Query("""
     SELECT c
     FROM CompletedDateTime c 
-    WHERE c.todoId = :todoId AND FUNCTION('DATE', c.dateTime) = :todayDate
+    WHERE c.todoId = :todoId AND c.completedDate = :todayDate
     """)
     Optional<CompletedDateTime> findByDateAndTodoId(@Param("todoId") Long todoId, @Param("todayDate") LocalDate todayDate);
 
-    @Query(value = "SELECT DISTINCT c.date_time " +
-            "FROM completed_date_time c " +
-            "JOIN todo t ON c.todo_id = t.id " +
-            "WHERE t.user_id = :userId " +
-            "AND YEAR(c.date_time) = :year " +
-            "AND MONTH(c.date_time) = :month",
-            nativeQuery = true)
-    List<Timestamp> findDistinctCompletedDateTimesByUserIdAndYearMonth(
+    @Query("""
+    SELECT DISTINCT c.dateTime
+    FROM CompletedDateTime c
+    WHERE c.userId = :userId
+      AND c.completedDate >= :startDate
+      AND c.completedDate < :endDate
+    """)
+    List<LocalDateTime> findDistinctCompletedDateTimesByUserIdAndDateRange(
             @Param("userId") Long userId,
-            @Param("year") String year,
-            @Param("month") int month
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
     );
+
+    @Query("""
+    SELECT DISTINCT c.completedDate
+    FROM CompletedDateTime c
+    WHERE c.userId = :userId
+      AND c.completedDate >= :startDate
+      AND c.completedDate < :endDate
+    ORDER BY c.completedDate ASC
+    """)
+    List<LocalDate> findDistinctCompletedDatesByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 이전 버전 노드는 completed_date, user_id 를 둘 다 비워 두므로 completed_date 인덱스만으로 남은 행을 찾는다.
+    @Query("SELECT c.id FROM CompletedDateTime c WHERE c.completedDate IS NULL ORDER BY c.id ASC")
+    List<Long> findIdsToBackfill(Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE completed_date_time c " +
+            "SET c.completed_date = CAST(c.date_time AS DATE), " +
+            "c.user_id = (SELECT t.user_id FROM todo t WHERE t.id = c.todo_id) " +
+            "WHERE c.id IN (:ids)",
+            nativeQuery = true)
+    int backfillCompletedDateAndUserId(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM completed_date_time " +
+            "WHERE id IN (:ids) " +
+            "AND user_id IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM todo t WHERE t.id = completed_date_time.todo_id)",
+            nativeQuery = true)
+    int deleteOrphans(@Param("ids") List<Long> ids);
+
+    @Query("""
+    SELECT new server.poptato.todo.domain.value.DailyCompletionCount(c.completedDate, COUNT(c))
+    FROM CompletedDateTime c
+    WHERE c.userId = :userId
+    GROUP BY c.completedDate
+    ORDER BY c.completedDate ASC
+    """)
+    List<DailyCompletionCount> countDailyCompletionsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT c.userId FROM CompletedDateTime c WHERE c.userId IS NOT NULL")
+    List<Long> findDistinctUserIds();
+
+    @Query("SELECT MIN(c.completedDate) FROM CompletedDateTime c WHERE c.completedDate < :horizon")
+    Optional<LocalDate> findMinCompletedDateBefore(@Param("horizon") LocalDate horizon);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CompletedDateTime c WHERE c.completedDate = :completedDate")
+    int deleteByCompletedDate(@Param("completedDate") LocalDate completedDate);
+
+    @Query("SELECT c.completedDate FROM CompletedDateTime c WHERE c.todoId = :todoId")
+    List<LocalDate> findCompletedDatesByTodoId(@Param("todoId") Long todoId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CompletedDateTime c WHERE c.todoId = :todoId")
+    int deleteByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT c.id FROM CompletedDateTime c WHERE c.userId = :userId ORDER BY c.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CompletedDateTime c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("""
+    SELECT c.id
+    FROM CompletedDateTime c
+    WHERE c.todoId IN (SELECT t.id FROM Todo t WHERE t.categoryId = :categoryId)
+    ORDER BY c.id ASC
+    """)
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 }
@@ -0,0 +1,8 @@
+package server.poptato.todo.infra.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import server.poptato.todo.domain.entity.CompletionArchiveWatermark;
+import server.poptato.todo.domain.repository.CompletionArchiveWatermarkRepository;
+
+public interface JpaCompletionArchiveWatermarkRepository extends CompletionArchiveWatermarkRepository, JpaRepository<CompletionArchiveWatermark, Long> {
+}
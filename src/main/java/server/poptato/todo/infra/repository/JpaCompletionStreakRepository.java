@@ -0,0 +1,15 @@
+package server.poptato.todo.infra.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.poptato.todo.domain.entity.CompletionStreak;
+import server.poptato.todo.domain.repository.CompletionStreakRepository;
+
+public interface JpaCompletionStreakRepository extends CompletionStreakRepository, JpaRepository<CompletionStreak, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CompletionStreak c WHERE c.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,89 @@
+package server.poptato.todo.infra.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.poptato.todo.domain.entity.DailyCompletion;
+import server.poptato.todo.domain.repository.DailyCompletionRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface JpaDailyCompletionRepository extends DailyCompletionRepository, JpaRepository<DailyCompletion, Long> {
+    @Query("SELECT d.completedCount FROM DailyCompletion d WHERE d.userId = :userId AND d.completionDate = :completionDate")
+    Optional<Integer> findCompletedCount(@Param("userId") Long userId, @Param("completionDate") LocalDate completionDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE DailyCompletion d
+    SET d.completedCount = d.completedCount + 1, d.modifyDate = :modifyDate
+    WHERE d.userId = :userId AND d.completionDate = :completionDate
+    """)
+    int increaseCompletedCount(@Param("userId") Long userId,
+                               @Param("completionDate") LocalDate completionDate,
+                               @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+    UPDATE DailyCompletion d
+    SET d.completedCount = d.completedCount - 1, d.modifyDate = :modifyDate
+    WHERE d.userId = :userId AND d.completionDate = :completionDate AND d.completedCount > 0
+    """)
+    int decreaseCompletedCount(@Param("userId") Long userId,
+                               @Param("completionDate") LocalDate completionDate,
+                               @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Query("""
+    SELECT d.completionDate
+    FROM DailyCompletion d
+    WHERE d.userId = :userId AND d.completedCount > 0
+    ORDER BY d.completionDate ASC
+    """)
+    List<LocalDate> findCompletionDatesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+    SELECT d.completionDate
+    FROM DailyCompletion d
+    WHERE d.userId = :userId
+      AND d.completedCount > 0
+      AND d.completionDate >= :startDate
+      AND d.completionDate < :endDate
+    ORDER BY d.completionDate ASC
+    """)
+    List<LocalDate> findCompletionDatesByUserIdAndDateRange(@Param("userId") Long userId,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    @Query("""
+    SELECT MAX(d.completionDate)
+    FROM DailyCompletion d
+    WHERE d.userId = :userId AND d.completedCount > 0 AND d.completionDate < :date
+    """)
+    Optional<LocalDate> findLastCompletionDateBefore(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    @Query("""
+    SELECT COALESCE(SUM(d.completedCount), 0)
+    FROM DailyCompletion d
+    WHERE d.userId = :userId
+      AND d.completionDate >= :startDate
+      AND d.completionDate < :endDate
+    """)
+    long sumCompletedCountByUserIdAndDateRange(@Param("userId") Long userId,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM DailyCompletion d WHERE d.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT d.id FROM DailyCompletion d WHERE d.userId = :userId ORDER BY d.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyCompletion d WHERE d.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
@@ -3,15 +3,20 @@ package server.poptato.todo.infra.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import server.poptato.todo.application.response.HistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface JpaTodoRepository extends TodoRepository, JpaRepository<Todo, Long> {
     @Query("SELECT COALESCE(MAX(t.backlogOrder), 0) FROM Todo t WHERE t.userId = :userId AND t.backlogOrder IS NOT NULL")
@@ -61,7 +66,8 @@ public interface JpaTodoRepository extends TodoRepository, JpaRepository<Todo, L
             WHERE t.userId = :userId 
               AND t.type = 'TODAY'
               AND t.todayStatus = 'COMPLETED'
-              AND FUNCTION('DATE', c.dateTime) = :todayDate
+              AND c.userId = :userId
+              AND c.completedDate = :todayDate
             ORDER BY c.dateTime ASC
             """)
     List<Todo> findCompletedTodayByUserIdOrderByCompletedDateTimeAsc(
@@ -69,18 +75,90 @@ public interface JpaTodoRepository extends TodoRepository, JpaRepository<Todo, L
             @Param("todayDate") LocalDate todayDate
     );
 
-    @Query("SELECT t FROM Todo t " +
-            "WHERE t.id IN (" +
-            "    SELECT c.todoId FROM CompletedDateTime c " +
-            "    WHERE DATE(c.dateTime) = :localDate" +
-            ") AND t.userId = :userId " +
-            "ORDER BY (" +
-            "    SELECT c.dateTime FROM CompletedDateTime c " +
-            "    WHERE c.todoId = t.id AND DATE(c.dateTime) = :localDate" +
-            ") ASC")
-    Page<Todo> findTodosByUserIdAndCompletedDateTime(@Param("userId") Long userId,
-                                                     @Param("localDate") LocalDate localDate, Pageable pageable);
+    @Query("""
+            SELECT new server.poptato.todo.application.response.HistoryResponseDto(t.id, t.content, c.id)
+            FROM CompletedDateTime c
+            JOIN Todo t ON t.id = c.todoId
+            LEFT JOIN CompletedDateTime prev ON prev.id = :cursor
+            WHERE c.userId = :userId
+              AND c.completedDate = :localDate
+              AND (prev.id IS NULL
+                   OR c.dateTime > prev.dateTime
+                   OR (c.dateTime = prev.dateTime AND c.id > prev.id))
+            ORDER BY c.dateTime ASC, c.id ASC
+            """)
+    List<HistoryResponseDto> findHistories(@Param("userId") Long userId,
+                                           @Param("localDate") LocalDate localDate,
+                                           @Param("cursor") Long cursor,
+                                           Pageable pageable);
 
     @Query("SELECT t FROM Todo t WHERE t.userId = :userId AND t.deadline = :deadline")
     List<Todo> findTodosDueToday(@Param("userId") Long userId, @Param("deadline") LocalDate deadline);
+
+    @Query("""
+            SELECT new server.poptato.todo.application.response.TodoDetailResponseDto(
+                t.id, t.content, t.deadline, c.name, e.imageUrl, t.isBookmark, t.isRepeat)
+            FROM Todo t
+            LEFT JOIN Category c ON c.id = t.categoryId
+            LEFT JOIN Emoji e ON e.id = c.emojiId
+            WHERE t.id = :todoId AND t.userId = :userId
+            """)
+    Optional<TodoDetailResponseDto> findTodoDetailByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Query("""
+            SELECT new server.poptato.todo.application.response.TodoDetailResponseDto(
+                t.id, t.content, t.deadline, c.name, e.imageUrl, t.isBookmark, t.isRepeat)
+            FROM Todo t
+            LEFT JOIN Category c ON c.id = t.categoryId
+            LEFT JOIN Emoji e ON e.id = c.emojiId
+            WHERE t.id IN :todoIds AND t.userId = :userId
+            """)
+    List<TodoDetailResponseDto> findTodoDetailsByIdInAndUserId(@Param("todoIds") List<Long> todoIds, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId AND t.userId = :userId")
+    int deleteByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Todo t
+            SET t.isBookmark = CASE WHEN t.isBookmark = true THEN false ELSE true END, t.modifyDate = :modifyDate
+            WHERE t.id = :todoId AND t.userId = :userId
+            """)
+    int toggleBookmarkByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId,
+                                    @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Todo t
+            SET t.isRepeat = CASE WHEN t.isRepeat = true THEN false ELSE true END, t.modifyDate = :modifyDate
+            WHERE t.id = :todoId AND t.userId = :userId
+            """)
+    int toggleRepeatByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId,
+                                  @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.deadline = :deadline, t.modifyDate = :modifyDate WHERE t.id = :todoId AND t.userId = :userId")
+    int updateDeadlineByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId,
+                                    @Param("deadline") LocalDate deadline, @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.content = :content, t.modifyDate = :modifyDate WHERE t.id = :todoId AND t.userId = :userId")
+    int updateContentByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId,
+                                   @Param("content") String content, @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.categoryId = :categoryId, t.modifyDate = :modifyDate WHERE t.id = :todoId AND t.userId = :userId")
+    int updateCategoryByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId,
+                                    @Param("categoryId") Long categoryId, @Param("modifyDate") LocalDateTime modifyDate);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.userId = :userId ORDER BY t.id ASC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.categoryId = :categoryId ORDER BY t.id ASC")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 }
@@ -1,10 +1,18 @@
 package server.poptato.user.api;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import server.poptato.global.response.BaseResponse;
 import server.poptato.user.api.request.UserDeleteRequestDTO;
 import server.poptato.user.application.response.UserInfoResponseDto;
+import server.poptato.user.application.service.UserExportService;
 import server.poptato.user.application.service.UserService;
 import server.poptato.user.resolver.UserId;
 
@@ -14,6 +22,7 @@ import server.poptato.user.resolver.UserId;
 public class UserController {
 
     private final UserService userService;
+    private final UserExportService userExportService;
 
     @PostMapping("/delete")
     public BaseResponse deleteUser(@UserId Long userId,
@@ -27,4 +36,13 @@ public class UserController {
         UserInfoResponseDto response = userService.getUserInfo(userId);
         return new BaseResponse(response);
     }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUserData(@UserId Long userId, HttpServletRequest request) {
+        StreamingResponseBody response = userExportService.export(userId, WebAsyncUtils.getAsyncManager(request));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("poptato-export.ndjson").build().toString())
+                .body(response);
+    }
 }
\ No newline at end of file
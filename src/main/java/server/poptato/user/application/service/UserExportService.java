@@ -0,0 +1,92 @@
+package server.poptato.user.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import server.poptato.user.exception.UserException;
+import server.poptato.user.infra.export.UserDataExporter;
+import server.poptato.user.validator.UserValidator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static server.poptato.user.exception.errorcode.UserExceptionErrorCode.EXPORT_LIMIT_EXCEEDED;
+
+/**
+ * 내보내기는 끝날 때까지 DB 커넥션 하나를 잡고 있으므로 동시에 진행할 수 있는 수를 제한한다.
+ * 전역 비동기 타임아웃 대신 user.export.timeout-ms 만큼 기다린다.
+ */
+@Service
+public class UserExportService {
+    private static final String EXPORT_INTERCEPTOR_KEY = UserExportService.class.getName();
+
+    private final UserDataExporter userDataExporter;
+    private final UserValidator userValidator;
+    private final Semaphore exportPermits;
+    private final long exportTimeoutMillis;
+    private final Timer exportTimer;
+    private final Counter exportedRows;
+    private final Counter rejectedExports;
+
+    public UserExportService(UserDataExporter userDataExporter,
+                             UserValidator userValidator,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.export.max-concurrent:4}") int maxConcurrentExports,
+                             @Value("${user.export.timeout-ms:600000}") long exportTimeoutMillis) {
+        this.userDataExporter = userDataExporter;
+        this.userValidator = userValidator;
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.exportTimeoutMillis = exportTimeoutMillis;
+        this.exportTimer = Timer.builder("user.export.duration").register(meterRegistry);
+        this.exportedRows = Counter.builder("user.export.rows").register(meterRegistry);
+        this.rejectedExports = Counter.builder("user.export.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 허가는 요청 스레드에서 받아 초과하면 바로 429 로 응답한다. 본문이 실행되면 본문이 끝날 때 허가를 돌려주고,
+     * 타임아웃이나 연결 종료로 본문이 실행되지 못한 채 비동기 요청이 끝나면 그때 돌려준다.
+     */
+    public StreamingResponseBody export(Long userId, WebAsyncManager asyncManager) {
+        userValidator.checkIsExistUser(userId);
+        if (!exportPermits.tryAcquire()) {
+            rejectedExports.increment();
+            throw new UserException(EXPORT_LIMIT_EXCEEDED);
+        }
+        AtomicBoolean permitClaimed = new AtomicBoolean();
+        asyncManager.registerCallableInterceptor(EXPORT_INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(exportTimeoutMillis);
+                }
+            }
+
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                if (permitClaimed.compareAndSet(false, true)) {
+                    exportPermits.release();
+                }
+            }
+        });
+        return outputStream -> {
+            if (!permitClaimed.compareAndSet(false, true)) {
+                return;
+            }
+            Timer.Sample sample = Timer.start();
+            try {
+                exportedRows.increment(userDataExporter.export(userId, outputStream));
+            } finally {
+                sample.stop(exportTimer);
+                exportPermits.release();
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package server.poptato.user.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.global.purge.ChunkedPurger;
+import server.poptato.todo.domain.repository.*;
+import server.poptato.user.domain.entity.UserPurge;
+import server.poptato.user.domain.repository.MobileRepository;
+import server.poptato.user.domain.repository.UserPurgeRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴한 유저의 데이터를 백그라운드에서 chunk 단위로 지운다.
+ * 모든 테이블을 비운 뒤에 UserPurge 를 지우므로 중간에 멈춰도 다음 실행에서 남은 부분부터 이어서 지운다.
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+    private static final String JOB = "user";
+
+    private final UserPurgeRepository userPurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ChunkedPurger chunkedPurger;
+    private final List<ChunkedPurger.Step> purgeSteps;
+    private final AtomicLong pendingPurges = new AtomicLong();
+    private final Counter completedPurges;
+
+    public UserPurgeService(UserPurgeRepository userPurgeRepository,
+                            TransactionTemplate transactionTemplate,
+                            ChunkedPurger chunkedPurger,
+                            MeterRegistry meterRegistry,
+                            CompletedDateTimeRepository completedDateTimeRepository,
+                            ArchivedCompletedDateTimeRepository archivedCompletedDateTimeRepository,
+                            DailyCompletionRepository dailyCompletionRepository,
+                            CompletionCalendarRepository completionCalendarRepository,
+                            CompletionStreakRepository completionStreakRepository,
+                            TodoRepository todoRepository,
+                            MobileRepository mobileRepository,
+                            CategoryRepository categoryRepository) {
+        this.userPurgeRepository = userPurgeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkedPurger = chunkedPurger;
+        this.purgeSteps = List.of(
+                chunkedPurger.chunked("completed_date_time", completedDateTimeRepository::findIdsByUserId, completedDateTimeRepository::deleteByIdIn),
+                chunkedPurger.chunked("archived_completed_date_time", archivedCompletedDateTimeRepository::findIdsByUserId, archivedCompletedDateTimeRepository::deleteByIdIn),
+                chunkedPurger.chunked("daily_completion", dailyCompletionRepository::findIdsByUserId, dailyCompletionRepository::deleteByIdIn),
+                chunkedPurger.whole("completion_calendar", completionCalendarRepository::deleteAllByUserId),
+                chunkedPurger.whole("completion_streak", completionStreakRepository::deleteAllByUserId),
+                chunkedPurger.chunked("todo", todoRepository::findIdsByUserId, todoRepository::deleteByIdIn),
+                chunkedPurger.whole("mobile", mobileRepository::deleteAllByUserId),
+                chunkedPurger.whole("category", categoryRepository::deleteAllByUserId)
+        );
+        this.completedPurges = Counter.builder("purge.completed").tag("job", JOB).register(meterRegistry);
+        Gauge.builder("purge.pending", pendingPurges, AtomicLong::get).tag("job", JOB).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user.purge.interval-ms:10000}")
+    public void purgePendingUsers() {
+        try {
+            for (UserPurge userPurge : userPurgeRepository.findTop10ByOrderByIdAsc()) {
+                purge(userPurge.getUserId());
+                transactionTemplate.executeWithoutResult(status -> userPurgeRepository.delete(userPurge));
+                completedPurges.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("User purge stopped and will resume on the next run", e);
+        } finally {
+            pendingPurges.set(userPurgeRepository.count());
+        }
+    }
+
+    public void purge(Long userId) {
+        long deleted = chunkedPurger.purge(JOB, userId, purgeSteps);
+        log.info("Purged {} rows of deleted user {}", deleted, userId);
+    }
+}
@@ -4,11 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.auth.application.service.JwtService;
+import server.poptato.category.application.CategoryCatalog;
+import server.poptato.todo.application.HistoryCache;
 import server.poptato.user.domain.entity.DeleteReason;
 import server.poptato.user.domain.repository.DeleteReasonRepository;
-import server.poptato.user.domain.repository.MobileRepository;
+import server.poptato.user.domain.entity.UserPurge;
+import server.poptato.user.domain.repository.UserPurgeRepository;
 import server.poptato.user.domain.value.Reason;
-import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.user.api.request.UserDeleteRequestDTO;
 import server.poptato.user.application.response.UserInfoResponseDto;
 import server.poptato.user.converter.UserDtoConverter;
@@ -23,19 +25,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final TodoRepository todoRepository;
     private final JwtService jwtService;
     private final UserValidator userValidator;
     private final DeleteReasonRepository deleteReasonRepository;
-    private final MobileRepository mobileRepository;
+    private final UserPurgeRepository userPurgeRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final HistoryCache historyCache;
 
     public void deleteUser(Long userId, UserDeleteRequestDTO userDeleteRequestDTO) {
         User user = userValidator.checkIsExistAndReturnUser(userId);
         saveDeleteReasons(userId, userDeleteRequestDTO.reasons(), userDeleteRequestDTO.userInputReason());
-        todoRepository.deleteAllByUserId(userId);
-        mobileRepository.deleteAllByUserId(userId);
-        jwtService.deleteRefreshToken(String.valueOf(userId));
+        userPurgeRepository.save(UserPurge.create(userId));
+        jwtService.revokeAllTokens(String.valueOf(userId));
         userRepository.delete(user);
+        userValidator.invalidate(userId);
+        categoryCatalog.invalidate(userId);
+        historyCache.evictUserAfterCommit(userId);
     }
 
     @Transactional(readOnly = true)
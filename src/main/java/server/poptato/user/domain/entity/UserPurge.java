@@ -0,0 +1,36 @@
+package server.poptato.user.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 처리된 유저의 남은 데이터를 지우는 작업. 백그라운드 작업이 데이터를 모두 지우면 함께 삭제된다.
+ */
+@Getter
+@Entity
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_purge_user_id", columnNames = "user_id"))
+public class UserPurge {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @NotNull
+    private Long userId;
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+
+    public static UserPurge create(Long userId) {
+        return UserPurge.builder()
+                .userId(userId)
+                .build();
+    }
+}
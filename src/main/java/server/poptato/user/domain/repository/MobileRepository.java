@@ -6,6 +6,6 @@ import java.util.Optional;
 
 public interface MobileRepository {
     Mobile save(Mobile mobile);
-    void deleteAllByUserId(Long userId);
+    int deleteAllByUserId(Long userId);
     Optional<Mobile> findByUserId(Long userId);
 }
@@ -0,0 +1,12 @@
+package server.poptato.user.domain.repository;
+
+import server.poptato.user.domain.entity.UserPurge;
+
+import java.util.List;
+
+public interface UserPurgeRepository {
+    UserPurge save(UserPurge userPurge);
+    List<UserPurge> findTop10ByOrderByIdAsc();
+    void delete(UserPurge userPurge);
+    long count();
+}
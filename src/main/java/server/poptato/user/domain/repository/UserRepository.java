@@ -8,6 +8,7 @@ import java.util.Optional;
 public interface UserRepository {
     Optional<User> findBySocialId(String socialId);
     Optional<User> findById(Long userId);
+    Optional<User> findWithLockById(Long userId);
     void delete(User user);
     User save(User user);
     List<User> findAll();
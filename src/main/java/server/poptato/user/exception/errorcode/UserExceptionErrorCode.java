@@ -11,7 +11,8 @@ public enum UserExceptionErrorCode implements ResponseStatus {
      * 4000: User 도메인 오류
      */
 
-    USER_NOT_EXIST(4000, HttpStatus.BAD_REQUEST.value(), "존재하지 않는 사용자입니다.");
+    USER_NOT_EXIST(4000, HttpStatus.BAD_REQUEST.value(), "존재하지 않는 사용자입니다."),
+    EXPORT_LIMIT_EXCEEDED(4001, HttpStatus.TOO_MANY_REQUESTS.value(), "진행 중인 데이터 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final int code;
     private final int status;
@@ -0,0 +1,245 @@
+package server.poptato.user.infra.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 유저의 카테고리, 할 일, 달성 기록을 한 줄에 하나씩 JSON(NDJSON)으로 내보낸다.
+ * 전방향 커서로 한 행씩 읽어 바로 출력 스트림에 쓰므로 데이터 양과 상관없이 메모리 사용량이 일정하다.
+ * 클라이언트가 느리면 출력 스트림 쓰기가 막히고, 그동안 커서도 다음 행을 읽지 않는다.
+ * 세 쿼리는 하나의 읽기 전용 트랜잭션에서 실행되어 같은 시점의 데이터를 내보낸다.
+ * 마지막 줄은 항상 end 또는 error 레코드이므로, 이 줄이 없으면 클라이언트는 응답이 잘린 것으로 판단할 수 있다.
+ */
+@Slf4j
+@Component
+public class UserDataExporter {
+    private static final String CATEGORY_SQL = """
+            SELECT id, name, emoji_id, category_order
+            FROM category
+            WHERE user_id = ?
+            ORDER BY category_order
+            """;
+    private static final String TODO_SQL = """
+            SELECT id, category_id, type, content, deadline, is_bookmark, is_repeat, today_date, today_status, create_date
+            FROM todo
+            WHERE user_id = ?
+            ORDER BY id
+            """;
+    private static final String COMPLETION_SQL = """
+            SELECT id, todo_id, date_time FROM archived_completed_date_time WHERE user_id = ?
+            UNION ALL
+            SELECT id, todo_id, date_time FROM completed_date_time WHERE user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean mysql;
+    private final int fetchSize;
+    private final int flushInterval;
+    private final int netWriteTimeoutSeconds;
+
+    public UserDataExporter(JdbcTemplate jdbcTemplate,
+                            DataSource dataSource,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            @Value("${user.export.fetch-size:500}") int fetchSize,
+                            @Value("${user.export.flush-interval:200}") int flushInterval,
+                            @Value("${user.export.net-write-timeout-seconds:600}") int netWriteTimeoutSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.objectMapper = objectMapper;
+        this.mysql = isMySql(dataSource);
+        this.fetchSize = mysql ? Integer.MIN_VALUE : fetchSize;
+        this.flushInterval = flushInterval;
+        this.netWriteTimeoutSeconds = netWriteTimeoutSeconds;
+    }
+
+    /**
+     * @return 내보낸 행 수
+     */
+    public long export(Long userId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.setRootValueSeparator(null);
+            RowWriter writer = new RowWriter(generator);
+            try {
+                transactionTemplate.executeWithoutResult(status -> withNetWriteTimeout(() -> writeRows(userId, generator, writer)));
+            } catch (RuntimeException e) {
+                writeErrorRecord(generator, writer.rowCount);
+                throw e;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("type", "end");
+            generator.writeNumberField("rowCount", writer.rowCount);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+            return writer.rowCount;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRows(Long userId, JsonGenerator generator, RowWriter writer) {
+        stream(CATEGORY_SQL, userId, 1, rs -> {
+            generator.writeStartObject();
+            generator.writeStringField("type", "category");
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("name", rs.getString("name"));
+            generator.writeNumberField("emojiId", rs.getLong("emoji_id"));
+            generator.writeNumberField("categoryOrder", rs.getInt("category_order"));
+            generator.writeEndObject();
+        }, writer);
+        stream(TODO_SQL, userId, 1, rs -> {
+            generator.writeStartObject();
+            generator.writeStringField("type", "todo");
+            generator.writeNumberField("id", rs.getLong("id"));
+            writeNullableLong(generator, "categoryId", rs, "category_id");
+            generator.writeStringField("todoType", rs.getString("type"));
+            generator.writeStringField("content", rs.getString("content"));
+            writeNullableString(generator, "deadline", rs.getObject("deadline", LocalDate.class));
+            generator.writeBooleanField("isBookmark", rs.getBoolean("is_bookmark"));
+            generator.writeBooleanField("isRepeat", rs.getBoolean("is_repeat"));
+            writeNullableString(generator, "todayDate", rs.getObject("today_date", LocalDate.class));
+            generator.writeStringField("todayStatus", rs.getString("today_status"));
+            writeNullableString(generator, "createDate", rs.getObject("create_date", LocalDateTime.class));
+            generator.writeEndObject();
+        }, writer);
+        stream(COMPLETION_SQL, userId, 2, rs -> {
+            generator.writeStartObject();
+            generator.writeStringField("type", "completion");
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeNumberField("todoId", rs.getLong("todo_id"));
+            writeNullableString(generator, "dateTime", rs.getObject("date_time", LocalDateTime.class));
+            generator.writeEndObject();
+        }, writer);
+    }
+
+    /**
+     * 스트리밍 중에는 클라이언트가 읽는 속도만큼만 서버가 결과를 보낼 수 있어, 기본 net_write_timeout(60초)이 지나면
+     * MySQL 이 연결을 끊는다. 내보내는 동안만 세션 값을 늘리고 끝나면 되돌린다.
+     */
+    private void withNetWriteTimeout(Runnable export) {
+        if (!mysql) {
+            export.run();
+            return;
+        }
+        Integer previous = jdbcTemplate.queryForObject("SELECT @@SESSION.net_write_timeout", Integer.class);
+        jdbcTemplate.execute("SET SESSION net_write_timeout = " + netWriteTimeoutSeconds);
+        try {
+            export.run();
+        } finally {
+            try {
+                jdbcTemplate.execute("SET SESSION net_write_timeout = " + previous);
+            } catch (DataAccessException e) {
+                log.warn("Failed to restore net_write_timeout after user export", e);
+            }
+        }
+    }
+
+    // 이미 보낸 행은 되돌릴 수 없으므로, 실패했다는 것을 마지막 줄로 알린다. 연결이 끊긴 경우에는 쓸 수 없으므로 무시한다.
+    // 행을 쓰는 중에 실패했을 수 있어 생성기 상태와 상관없이 줄을 끝내고 그대로 쓴다.
+    private static void writeErrorRecord(JsonGenerator generator, long rowCount) {
+        try {
+            if (!generator.getOutputContext().inRoot()) {
+                generator.writeRaw('\n');
+            }
+            generator.writeRaw("{\"type\":\"error\",\"rowCount\":" + rowCount + "}\n");
+            generator.flush();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to write user export error record", e);
+        }
+    }
+
+    private void stream(String sql, Long userId, int userIdParameterCount, RowSerializer serializer, RowWriter writer) {
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 1; i <= userIdParameterCount; i++) {
+                statement.setLong(i, userId);
+            }
+            return statement;
+        };
+        RowCallbackHandler rowCallbackHandler = rs -> {
+            try {
+                serializer.write(rs);
+                writer.endRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        jdbcTemplate.query(statementCreator, rowCallbackHandler);
+    }
+
+    private static void writeNullableLong(JsonGenerator generator, String field, ResultSet rs, String column) throws SQLException, IOException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            generator.writeNullField(field);
+            return;
+        }
+        generator.writeNumberField(field, value);
+    }
+
+    private static void writeNullableString(JsonGenerator generator, String field, Object value) throws IOException {
+        generator.writeStringField(field, value == null ? null : value.toString());
+    }
+
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 모두 받아두지 않고 한 행씩 스트리밍한다.
+    private static boolean isMySql(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equals(productName);
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSerializer {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private class RowWriter {
+        private final JsonGenerator generator;
+        private long rowCount;
+
+        private RowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        private void endRow() throws IOException {
+            generator.writeRaw('\n');
+            if (++rowCount % flushInterval == 0) {
+                generator.flush();
+            }
+        }
+    }
+}
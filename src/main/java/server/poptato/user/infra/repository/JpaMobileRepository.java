@@ -1,8 +1,15 @@
 package server.poptato.user.infra.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import server.poptato.user.domain.entity.Mobile;
 import server.poptato.user.domain.repository.MobileRepository;
 
 public interface JpaMobileRepository extends MobileRepository, JpaRepository<Mobile, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Mobile m WHERE m.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
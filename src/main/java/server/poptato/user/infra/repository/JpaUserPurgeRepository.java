@@ -0,0 +1,8 @@
+package server.poptato.user.infra.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import server.poptato.user.domain.entity.UserPurge;
+import server.poptato.user.domain.repository.UserPurgeRepository;
+
+public interface JpaUserPurgeRepository extends UserPurgeRepository, JpaRepository<UserPurge, Long> {
+}
@@ -1,8 +1,10 @@
 package server.poptato.user.infra.repository;
 
-import feign.Param;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import server.poptato.user.domain.entity.User;
 import server.poptato.user.domain.repository.UserRepository;
 
@@ -11,4 +13,8 @@ import java.util.Optional;
 public interface JpaUserRepository extends UserRepository, JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.socialId = :socialId")
     Optional<User> findBySocialId(@Param("socialId") String socialId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findWithLockById(@Param("userId") Long userId);
 }
\ No newline at end of file
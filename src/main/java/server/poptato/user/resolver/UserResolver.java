@@ -18,6 +18,7 @@ import static server.poptato.auth.exception.errorcode.AuthExceptionErrorCode.*;
 @Component
 @RequiredArgsConstructor
 public class UserResolver implements HandlerMethodArgumentResolver {
+    public static final String AUTHENTICATED_USER_ID = UserResolver.class.getName() + ".AUTHENTICATED_USER_ID";
     private final JwtService jwtService;
 
     @Override
@@ -33,10 +34,11 @@ public class UserResolver implements HandlerMethodArgumentResolver {
             throw new AuthException(TOKEN_NOT_EXIST);
         }
         final String extractedToken = token.substring("Bearer ".length());
-        jwtService.verifyToken(extractedToken);
-        final String decodedUserId = jwtService.getUserIdInToken(extractedToken);
+        final String decodedUserId = jwtService.verifyAndGetUserId(extractedToken);
         try {
-            return Long.parseLong(decodedUserId);
+            Long userId = Long.parseLong(decodedUserId);
+            request.setAttribute(AUTHENTICATED_USER_ID, userId);
+            return userId;
         } catch (NumberFormatException e) {
             return new AuthException(INVALID_TOKEN);
         }
@@ -1,25 +1,77 @@
 package server.poptato.user.validator;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import server.poptato.external.redis.RedisBroadcaster;
+import server.poptato.global.transaction.AfterCommitExecutor;
 import server.poptato.user.domain.entity.User;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.exception.UserException;
 import server.poptato.user.exception.errorcode.UserExceptionErrorCode;
+import server.poptato.user.resolver.UserResolver;
+
+import java.time.Duration;
 
 import static server.poptato.user.exception.errorcode.UserExceptionErrorCode.USER_NOT_EXIST;
 
 @Component
-@RequiredArgsConstructor
 public class UserValidator {
+    private static final String USER_INVALIDATION_CHANNEL = "user:invalidation";
+
     private final UserRepository userRepository;
+    private final RedisBroadcaster redisBroadcaster;
+    private final Cache<Long, Boolean> existingUserIds;
+    private final boolean skipForAuthenticatedRequest;
+
+    public UserValidator(UserRepository userRepository,
+                         RedisBroadcaster redisBroadcaster,
+                         MeterRegistry meterRegistry,
+                         @Value("${user.validation.cache.max-size:100000}") long cacheMaxSize,
+                         @Value("${user.validation.cache.ttl:10m}") Duration cacheTtl,
+                         @Value("${user.validation.skip-for-authenticated-request:false}") boolean skipForAuthenticatedRequest) {
+        this.userRepository = userRepository;
+        this.redisBroadcaster = redisBroadcaster;
+        this.skipForAuthenticatedRequest = skipForAuthenticatedRequest;
+        this.existingUserIds = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, existingUserIds, "userExistence");
+        redisBroadcaster.subscribe(USER_INVALIDATION_CHANNEL, userId -> existingUserIds.invalidate(Long.valueOf(userId)));
+    }
 
     public void checkIsExistUser(Long userId){
+        if (skipForAuthenticatedRequest && isAuthenticatedUser(userId)) return;
+        if (existingUserIds.getIfPresent(userId) != null) return;
         userRepository.findById(userId).orElseThrow(() -> new UserException(USER_NOT_EXIST));
+        existingUserIds.put(userId, Boolean.TRUE);
     }
 
     public User checkIsExistAndReturnUser(Long userId){
-        return userRepository.findById(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserException(UserExceptionErrorCode.USER_NOT_EXIST));
+        existingUserIds.put(userId, Boolean.TRUE);
+        return user;
+    }
+
+    public void invalidate(Long userId) {
+        AfterCommitExecutor.execute(() -> {
+            existingUserIds.invalidate(userId);
+            redisBroadcaster.publish(USER_INVALIDATION_CHANNEL, String.valueOf(userId));
+        });
+    }
+
+    private boolean isAuthenticatedUser(Long userId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) return false;
+        Object authenticatedUserId = requestAttributes.getAttribute(UserResolver.AUTHENTICATED_USER_ID, RequestAttributes.SCOPE_REQUEST);
+        return userId.equals(authenticatedUserId);
     }
 }
@@ -18,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
@@ -25,16 +26,24 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.application.service.AuthService;
 import server.poptato.auth.application.service.JwtService;
+import server.poptato.auth.exception.AuthException;
 import server.poptato.global.dto.TokenPair;
 import server.poptato.user.application.service.UserService;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.domain.value.SocialType;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static server.poptato.auth.exception.errorcode.AuthExceptionErrorCode.INVALID_TOKEN;
 
 @Testcontainers
 @SpringBootTest
@@ -110,6 +119,26 @@ public class AuthControllerTest {
         Assertions.assertEquals(violations.size(), 1);
     }
 
+    @DisplayName("로그인 시, 비동기 처리 중 발생한 인증 예외는 인증 오류 응답으로 변환된다.")
+    @Test
+    public void login_AsyncAuthException() throws Exception {
+        //given
+        given(authService.login(any())).willReturn(CompletableFuture.supplyAsync(() -> {
+            throw new AuthException(INVALID_TOKEN);
+        }));
+        MvcResult mvcResult = mockMvc.perform(post("/auth/login")
+                        .content("{\"socialType\": \"KAKAO\", \"accessToken\": \"kakaoAccessToken\", \"mobileType\": \"ANDROID\", \"clientId\": \"clientId\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //when & then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(INVALID_TOKEN.getCode()))
+                .andDo(print());
+    }
+
     @DisplayName("로그아웃 시, 성공한다.")
     @Test
     public void logout_Success() throws Exception {
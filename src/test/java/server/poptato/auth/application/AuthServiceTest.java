@@ -4,12 +4,14 @@ import com.github.dockerjava.api.model.ExposedPort;
 import com.github.dockerjava.api.model.HostConfig;
 import com.github.dockerjava.api.model.PortBinding;
 import com.github.dockerjava.api.model.Ports;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -17,20 +19,48 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.api.request.ReissueTokenRequestDto;
+import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.service.AuthService;
 import server.poptato.auth.application.service.JwtService;
 import server.poptato.auth.exception.AuthException;
+import server.poptato.auth.infra.AccessTokenRevocationStore;
+import server.poptato.auth.infra.RefreshTokenStore;
+import server.poptato.external.oauth.SocialService;
 import server.poptato.external.oauth.SocialServiceProvider;
+import server.poptato.external.oauth.SocialUserInfo;
 import server.poptato.global.dto.TokenPair;
+import server.poptato.todo.constant.TutorialMessage;
+import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.Type;
+import server.poptato.user.domain.entity.Mobile;
+import server.poptato.user.domain.repository.MobileRepository;
 import server.poptato.user.domain.repository.UserRepository;
+import server.poptato.user.domain.value.MobileType;
+import server.poptato.user.domain.value.SocialType;
 import server.poptato.user.exception.UserException;
 import server.poptato.user.validator.UserValidator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static server.poptato.auth.exception.errorcode.AuthExceptionErrorCode.INVALID_TOKEN;
 
 @Testcontainers
@@ -38,8 +68,10 @@ import static server.poptato.auth.exception.errorcode.AuthExceptionErrorCode.INV
 public class AuthServiceTest {
     @Autowired
     private AuthService authService;
-    @Autowired
+    @MockBean
     private SocialServiceProvider socialServiceProvider;
+    @MockBean
+    private MobileRepository mobileRepository;
     @Autowired
     private UserRepository userRepository;
     @Autowired
@@ -55,6 +87,12 @@ public class AuthServiceTest {
 
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
+    private AccessTokenRevocationStore accessTokenRevocationStore;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Container
     private static final GenericContainer<?> redisContainer =
@@ -93,11 +131,63 @@ public class AuthServiceTest {
         long userId = Long.parseLong(userIdTypeString);
 
         // when
-        authService.logout(userId);
+        authService.logout(userId, accessToken);
 
         // then
-        String storedRefreshToken = redisTemplate.opsForValue().get(String.valueOf(userId));
-        assertThat(storedRefreshToken).isNull();
+        assertThat(refreshTokenStore.countSessions(String.valueOf(userId))).isZero();
+    }
+
+    @DisplayName("로그아웃 시, 해당 기기 세션의 액세스 토큰만 폐기되고 다른 기기 세션은 유지된다.")
+    @Test
+    public void logout_RevokesOnlyCurrentSession() {
+        // given
+        long userId = Long.parseLong(userIdTypeString);
+        TokenPair otherDevice = jwtService.generateTokenPair(userIdTypeString);
+
+        // when
+        authService.logout(userId, accessToken);
+
+        // then
+        AuthException exception = assertThrows(AuthException.class, () -> jwtService.verifyAndGetUserId(accessToken));
+        assertThat(exception.getExceptionStatus()).isEqualTo(INVALID_TOKEN);
+        assertThat(jwtService.verifyAndGetUserId(otherDevice.accessToken())).isEqualTo(userIdTypeString);
+        assertThat(refreshTokenStore.countSessions(userIdTypeString)).isEqualTo(1);
+        assertNotNull(authService.refresh(new ReissueTokenRequestDto(otherDevice.accessToken(), otherDevice.refreshToken())));
+    }
+
+    @DisplayName("탈퇴 등으로 유저의 토큰을 모두 폐기하면, 그 이전에 발급된 액세스 토큰은 모두 폐기된다.")
+    @Test
+    public void revokeAllTokens_RevokesAccessTokens() {
+        // given
+        long userId = Long.parseLong(userIdTypeString);
+        long issuedBeforeRevocation = System.currentTimeMillis() - 60_000;
+
+        // when
+        jwtService.revokeAllTokens(userIdTypeString);
+
+        // then
+        assertThat(accessTokenRevocationStore.isRevoked(userId, null, issuedBeforeRevocation)).isTrue();
+        assertThat(accessTokenRevocationStore.isRevoked(userId, "other-session", issuedBeforeRevocation)).isTrue();
+        assertThat(accessTokenRevocationStore.isRevoked(userId, null, System.currentTimeMillis() + 1_000)).isFalse();
+        assertThat(accessTokenRevocationStore.isRevoked(2L, null, issuedBeforeRevocation)).isFalse();
+    }
+
+    @DisplayName("토큰을 모두 폐기한 후 다시 발급된 토큰을 확인하면, Bloom filter 오탐이 아니라 폐기 이후 발급으로 센다.")
+    @Test
+    public void revokeAllTokens_TokenIssuedAfterRevocation_NotCountedAsFalsePositive() {
+        // given
+        long userId = Long.parseLong(userIdTypeString);
+        jwtService.revokeAllTokens(userIdTypeString);
+        double falsePositives = revocationChecks("false_positive");
+        double issuedAfterRevocation = revocationChecks("issued_after_revocation");
+
+        // when
+        boolean revoked = accessTokenRevocationStore.isRevoked(userId, null, System.currentTimeMillis() + 1_000);
+
+        // then
+        assertThat(revoked).isFalse();
+        assertThat(revocationChecks("false_positive")).isEqualTo(falsePositives);
+        assertThat(revocationChecks("issued_after_revocation")).isEqualTo(issuedAfterRevocation + 1);
     }
 
     @DisplayName("로그아웃 시, 유저가 존재하지 않으면 예외가 발생한다.")
@@ -107,7 +197,7 @@ public class AuthServiceTest {
         Long userId = 5L;
 
         // then
-        assertThrows(UserException.class, () -> authService.logout(userId));
+        assertThrows(UserException.class, () -> authService.logout(userId, accessToken));
     }
 
     @DisplayName("토큰 재발급 시, 성공한다.")
@@ -122,6 +212,72 @@ public class AuthServiceTest {
         assertNotNull(refreshTokenPair.refreshToken());
     }
 
+    @DisplayName("토큰 재발급 시, 이미 교체된 리프레시 토큰을 다시 사용하면 예외가 발생하고 해당 세션이 폐기된다.")
+    @Test
+    void refresh_ReusedTokenException() {
+        //given
+        TokenPair rotatedTokenPair = authService.refresh(validTokenRequestDto);
+
+        //when & then
+        assertThrows(AuthException.class, () -> authService.refresh(validTokenRequestDto));
+        assertThrows(AuthException.class, () -> authService.refresh(
+                new ReissueTokenRequestDto(rotatedTokenPair.accessToken(), rotatedTokenPair.refreshToken())));
+    }
+
+    @DisplayName("토큰 재발급 시, 같은 리프레시 토큰으로 동시에 요청하면 하나만 성공하고 해당 세션이 폐기된다.")
+    @Test
+    void refresh_ConcurrentReuse_OnlyOneSucceeds() throws Exception {
+        //given
+        int requestCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<TokenPair>> results = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                return authService.refresh(validTokenRequestDto);
+            }));
+        }
+
+        //when
+        startLatch.countDown();
+        List<TokenPair> succeeded = new ArrayList<>();
+        int failedCount = 0;
+        for (Future<TokenPair> result : results) {
+            try {
+                succeeded.add(result.get(10, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(AuthException.class);
+                failedCount++;
+            }
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(succeeded).hasSize(1);
+        assertThat(failedCount).isEqualTo(requestCount - 1);
+        assertThat(refreshTokenStore.countSessions(userIdTypeString)).isZero();
+        TokenPair rotatedTokenPair = succeeded.get(0);
+        assertThrows(AuthException.class, () -> authService.refresh(
+                new ReissueTokenRequestDto(rotatedTokenPair.accessToken(), rotatedTokenPair.refreshToken())));
+    }
+
+    @DisplayName("토큰 재발급 시, 다른 기기의 세션은 영향을 받지 않는다.")
+    @Test
+    void refresh_MultipleDevices_Success() {
+        //given
+        TokenPair otherDeviceTokenPair = jwtService.generateTokenPair(userIdTypeString);
+
+        //when
+        authService.refresh(validTokenRequestDto);
+        TokenPair otherDeviceRefreshed = authService.refresh(
+                new ReissueTokenRequestDto(otherDeviceTokenPair.accessToken(), otherDeviceTokenPair.refreshToken()));
+
+        //then
+        assertNotNull(otherDeviceRefreshed.refreshToken());
+        assertThat(refreshTokenStore.countSessions(userIdTypeString)).isEqualTo(2);
+    }
+
     @DisplayName("토큰 재발급 시, 토큰이 유효하지 않으면 예외가 발생한다.")
     @Test
     void refresh_InvalidTokenException() {
@@ -138,4 +294,82 @@ public class AuthServiceTest {
                 .equals(INVALID_TOKEN);
     }
 
+    @DisplayName("토큰 검증 시, 같은 토큰을 반복 검증해도 같은 userId를 반환한다.")
+    @Test
+    void verifyAndGetUserId_Success() {
+        //when
+        String firstUserId = jwtService.verifyAndGetUserId(accessToken);
+        String cachedUserId = jwtService.verifyAndGetUserId(accessToken);
+
+        //then
+        assertThat(firstUserId).isEqualTo(userIdTypeString);
+        assertThat(cachedUserId).isEqualTo(userIdTypeString);
+    }
+
+    @DisplayName("토큰 검증 시, 토큰이 유효하지 않으면 예외가 발생한다.")
+    @Test
+    void verifyAndGetUserId_InvalidTokenException() {
+        // given
+        String invalidAccessToken = accessToken + "a";
+
+        //when & then
+        assertThrows(AuthException.class, () -> jwtService.verifyAndGetUserId(invalidAccessToken));
+    }
+
+    @DisplayName("로그인 시, 새 유저면 튜토리얼 할 일을 만들고 FCM 토큰과 리프레시 세션을 모두 저장한다.")
+    @Test
+    void login_NewUser_Success() throws Exception {
+        //given
+        LoginRequestDto loginRequestDto = givenKakaoLogin("login-new-user", "clientId");
+        given(mobileRepository.findByUserId(any())).willReturn(Optional.empty());
+
+        //when
+        LoginResponseDto response = authService.login(loginRequestDto).get(10, TimeUnit.SECONDS);
+
+        //then
+        String loginUserId = String.valueOf(response.userId());
+        assertThat(response.isNewUser()).isTrue();
+        assertThat(jwtService.verifyAndGetUserId(response.accessToken())).isEqualTo(loginUserId);
+        assertThat(refreshTokenStore.countSessions(loginUserId)).isEqualTo(1);
+        List<Todo> backlogs = todoRepository.findByTypeAndUserId(Type.BACKLOG, response.userId());
+        assertThat(backlogs).extracting(Todo::getContent).containsExactly(TutorialMessage.GUIDE);
+        verify(mobileRepository).save(argThat(mobile ->
+                mobile.getUserId().equals(response.userId()) && mobile.getClientId().equals("clientId")));
+        jwtService.deleteRefreshToken(loginUserId);
+    }
+
+    @DisplayName("로그인 시, FCM 토큰 저장이 실패하면 이미 발급된 리프레시 세션을 폐기한다.")
+    @Test
+    void login_FcmTokenFailure_DiscardsRefreshSession() {
+        //given
+        LoginRequestDto loginRequestDto = givenKakaoLogin("login-fcm-failure", "clientId");
+        given(mobileRepository.findByUserId(any())).willReturn(Optional.empty());
+        given(mobileRepository.save(any(Mobile.class))).willThrow(new IllegalStateException("fcm token save failed"));
+
+        //when
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> authService.login(loginRequestDto).get(10, TimeUnit.SECONDS));
+
+        //then
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+        Long loginUserId = userRepository.findBySocialId("login-fcm-failure").orElseThrow().getId();
+        assertThat(refreshTokenStore.countSessions(String.valueOf(loginUserId))).isZero();
+    }
+
+    private double revocationChecks(String result) {
+        return meterRegistry.get("token.revocation.checks").tag("result", result).counter().count();
+    }
+
+    private LoginRequestDto givenKakaoLogin(String socialId, String clientId) {
+        SocialService socialService = mock(SocialService.class);
+        given(socialService.getUserData("kakaoAccessToken"))
+                .willReturn(new SocialUserInfo(socialId, "nickname", socialId + "@poptato.com", "http://image.url"));
+        given(socialServiceProvider.getSocialService(SocialType.KAKAO)).willReturn(socialService);
+        return LoginRequestDto.builder()
+                .socialType(SocialType.KAKAO)
+                .accessToken("kakaoAccessToken")
+                .mobileType(MobileType.ANDROID)
+                .clientId(clientId)
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.category.api.request.CategoryCreateUpdateRequestDto;
 import server.poptato.category.api.request.CategoryDragAndDropRequestDto;
@@ -13,11 +14,21 @@ import server.poptato.category.application.response.CategoryListResponseDto;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.exception.CategoryException;
+import server.poptato.category.validator.CategoryValidator;
 import server.poptato.emoji.domain.repository.EmojiRepository;
 import server.poptato.emoji.exception.EmojiException;
 import server.poptato.emoji.validator.EmojiValidator;
+import server.poptato.todo.domain.entity.CompletedDateTime;
+import server.poptato.todo.domain.entity.CompletionCalendar;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletionCalendarRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.user.validator.UserValidator;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +50,16 @@ public class CategoryServiceTest {
     UserValidator userValidator;
     @Autowired
     EmojiValidator emojiValidator;
+    @Autowired
+    CategoryValidator categoryValidator;
+    @Autowired
+    CategoryPurgeService categoryPurgeService;
+    @Autowired
+    TodoRepository todoRepository;
+    @Autowired
+    CompletedDateTimeRepository completedDateTimeRepository;
+    @Autowired
+    CompletionCalendarRepository completionCalendarRepository;
 
     @DisplayName("카테고리 생성 시 성공한다.")
     @Test
@@ -152,4 +173,63 @@ public class CategoryServiceTest {
                 .isInstanceOf(CategoryException.class)
                 .hasMessage(INVALID_DRAG_AND_DROP_CATEGORY.getMessage());
     }
+
+    @DisplayName("카테고리 생성 직후 해당 카테고리 검증 시 카테고리 이름을 반환한다.")
+    @Test
+    void validateCategory_AfterCreate_Success() {
+        //given
+        Long userId = 1L;
+        String name = "새 카테고리";
+        Long emojiId = 3L;
+        categoryValidator.validateCategory(userId, -1L);
+
+        //when
+        CategoryCreateResponseDto response = categoryService.createCategory(userId, new CategoryCreateUpdateRequestDto(name, emojiId));
+
+        //then
+        assertThat(categoryValidator.validateCategory(userId, response.getCategoryId()).name()).isEqualTo(name);
+        assertThat(categoryValidator.validateCategory(userId, -1L).userId()).isEqualTo(-1L);
+    }
+
+    @DisplayName("카테고리 삭제 시 할 일은 백그라운드 작업에서 달성 기록과 함께 삭제된다.")
+    @Test
+    void deleteCategory_PurgesTodosAndCompletions() {
+        //given
+        Long userId = 1L;
+        Long categoryId = categoryService.createCategory(userId, new CategoryCreateUpdateRequestDto("삭제할 카테고리", 3L)).getCategoryId();
+        Todo todo = todoRepository.save(Todo.createCategoryBacklog(userId, categoryId, "할 일", 1));
+        todoRepository.save(Todo.createCategoryBacklog(userId, categoryId, "할 일", 2));
+        completedDateTimeRepository.save(CompletedDateTime.builder()
+                .todoId(todo.getId())
+                .userId(userId)
+                .dateTime(LocalDateTime.now())
+                .build());
+
+        //when
+        categoryService.deleteCategory(userId, categoryId);
+        List<Long> todoIdsBeforePurge = todoRepository.findIdsByCategoryId(categoryId, PageRequest.of(0, 10));
+        categoryPurgeService.purge(userId, categoryId);
+
+        //then
+        assertThat(todoIdsBeforePurge).hasSize(2);
+        assertThat(todoRepository.findIdsByCategoryId(categoryId, PageRequest.of(0, 10))).isEmpty();
+        assertThat(completedDateTimeRepository.findIdsByCategoryId(categoryId, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @DisplayName("카테고리 purge 를 다시 처리할 때, 달성 기록이 이미 지워졌어도 달력을 초기화한다.")
+    @Test
+    void purge_Retry_ResetsCalendar() {
+        //given
+        Long userId = 1L;
+        Long categoryId = categoryService.createCategory(userId, new CategoryCreateUpdateRequestDto("삭제할 카테고리", 3L)).getCategoryId();
+        categoryService.deleteCategory(userId, categoryId);
+        YearMonth yearMonth = YearMonth.now();
+        completionCalendarRepository.save(CompletionCalendar.create(userId, yearMonth, List.of(LocalDate.now())));
+
+        //when
+        categoryPurgeService.purge(userId, categoryId);
+
+        //then
+        assertThat(completionCalendarRepository.findByUserIdAndCalendarMonth(userId, CompletionCalendar.toCalendarMonth(yearMonth))).isEmpty();
+    }
 }
@@ -4,10 +4,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import server.poptato.category.application.response.CategoryResponseDto;
 import server.poptato.category.domain.entity.Category;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -23,13 +25,18 @@ public class CategoryRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 6);
 
         //when
-        Page<Category> categories = categoryRepository.findCategories(userId, pageRequest);
+        List<CategoryResponseDto> categories = categoryRepository.findCategories(userId, pageRequest);
 
         //then
-        assertThat(categories.getContent()).isNotEmpty();
-        assertThat(categories.getContent().stream().allMatch(category -> category.getUserId().equals(userId) || category.getUserId().equals(-1L))).isTrue();
-        for (int i = 0; i < categories.getContent().size() - 1; i++) {
-            assertThat(categories.getContent().get(i).getCategoryOrder()).isLessThan(categories.getContent().get(i + 1).getCategoryOrder());
+        assertThat(categories).isNotEmpty();
+        assertThat(categories.size()).isLessThanOrEqualTo(6);
+        List<Category> findCategories = categories.stream()
+                .map(category -> categoryRepository.findById(category.getId()).get())
+                .toList();
+        assertThat(findCategories.stream().allMatch(category -> category.getUserId().equals(userId) || category.getUserId().equals(-1L))).isTrue();
+        for (int i = 0; i < findCategories.size() - 1; i++) {
+            assertThat(findCategories.get(i).getCategoryOrder()).isLessThan(findCategories.get(i + 1).getCategoryOrder());
         }
+        assertThat(categories).allMatch(category -> category.getImageUrl() != null);
     }
 }
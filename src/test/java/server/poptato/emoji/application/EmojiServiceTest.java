@@ -8,11 +8,15 @@ import server.poptato.emoji.application.response.EmojiDTO;
 import server.poptato.emoji.application.response.EmojiResponseDTO;
 import server.poptato.emoji.application.service.EmojiService;
 import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.exception.EmojiException;
+import server.poptato.emoji.exception.errorcode.EmojiExceptionErrorCode;
+import server.poptato.global.response.PrecomputedResponse;
 
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 public class EmojiServiceTest {
@@ -38,4 +42,33 @@ public class EmojiServiceTest {
         assertThat(emojiList.size()).isEqualTo(1);
         assertThat(emojiList.get(0).imageUrl()).isEqualTo("https://example.com/productive-book1.png");
     }
+
+    @DisplayName("이모지 리스트 응답은 미리 직렬화되어 재사용되며, 같은 내용이면 같은 ETag를 가진다.")
+    @Test
+    void getGroupedEmojisResponse_Success() {
+        //given
+        int page = 0;
+        int size = 8;
+
+        //when
+        PrecomputedResponse firstResponse = emojiService.getGroupedEmojisResponse(page, size);
+        emojiService.refresh();
+        PrecomputedResponse secondResponse = emojiService.getGroupedEmojisResponse(page, size);
+
+        //then
+        assertThat(firstResponse.eTag()).isEqualTo(secondResponse.eTag());
+        assertThat(new String(firstResponse.body())).contains("https://example.com/productive-book1.png");
+    }
+
+    @DisplayName("이모지 리스트 조회시, 음수 페이지나 1보다 작은 size가 주어지면 예외가 발생한다.")
+    @Test
+    void getEmojiList_InvalidPageException() {
+        //when & then
+        assertThatThrownBy(() -> emojiService.getGroupedEmojisResponse(-1, 8))
+                .isInstanceOf(EmojiException.class)
+                .hasMessage(EmojiExceptionErrorCode.INVALID_PAGE.getMessage());
+        assertThatThrownBy(() -> emojiService.getGroupedEmojisResponse(0, 0))
+                .isInstanceOf(EmojiException.class)
+                .hasMessage(EmojiExceptionErrorCode.INVALID_PAGE.getMessage());
+    }
 }
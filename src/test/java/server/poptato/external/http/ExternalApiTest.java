@@ -0,0 +1,145 @@
+package server.poptato.external.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExternalApiTest {
+    private MockWebServer server;
+    private MeterRegistry meterRegistry;
+    private ExternalApi externalApi;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("external.http.stub.circuit-breaker.failure-threshold", "2");
+        externalApi = new ExternalHttpClient(meterRegistry, environment).create("stub");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @DisplayName("외부 API 호출 시, 응답 본문을 반환하고 지연 시간을 기록한다.")
+    @Test
+    void get_Success() throws InterruptedException {
+        //given
+        server.enqueue(new MockResponse().setBody("{\"id\":1}"));
+
+        //when
+        String response = externalApi.get(server.url("/v2/user/me").toString(), Map.of("Authorization", "Bearer token"));
+
+        //then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        assertThat(server.takeRequest().getHeader("Authorization")).isEqualTo("Bearer token");
+        assertThat(meterRegistry.get("external.http.client.requests")
+                .tag("provider", "stub")
+                .tag("outcome", "SUCCESS")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @DisplayName("외부 API 호출 시, 서버 오류가 연속되면 서킷이 열려 더 이상 요청을 보내지 않는다.")
+    @Test
+    void get_CircuitBreakerOpen() {
+        //given
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        String url = server.url("/").toString();
+        assertThrows(ExternalApiException.class, () -> externalApi.get(url, Map.of()));
+        assertThrows(ExternalApiException.class, () -> externalApi.get(url, Map.of()));
+
+        //when
+        ExternalApiException exception = assertThrows(ExternalApiException.class, () -> externalApi.get(url, Map.of()));
+
+        //then
+        assertThat(exception.getStatusCode()).isZero();
+        assertThat(server.getRequestCount()).isEqualTo(2);
+    }
+
+    @DisplayName("외부 API 호출 시, 클라이언트 오류는 서킷 실패로 세지 않는다.")
+    @Test
+    void get_ClientErrorDoesNotOpenCircuit() {
+        //given
+        server.enqueue(new MockResponse().setResponseCode(401));
+        server.enqueue(new MockResponse().setResponseCode(401));
+        server.enqueue(new MockResponse().setBody("ok"));
+        String url = server.url("/").toString();
+
+        //when
+        ExternalApiException exception = assertThrows(ExternalApiException.class, () -> externalApi.get(url, Map.of()));
+        assertThrows(ExternalApiException.class, () -> externalApi.get(url, Map.of()));
+
+        //then
+        assertThat(exception.isClientError()).isTrue();
+        assertThat(externalApi.get(url, Map.of())).isEqualTo("ok");
+    }
+
+    @DisplayName("외부 API 호출 시, 동시 호출 제한에 걸린 요청은 서킷의 시험 호출 기회를 쓰지 않는다.")
+    @Test
+    void get_BulkheadFullDoesNotConsumeHalfOpenTrial() throws InterruptedException {
+        //given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ZERO, Clock.systemUTC());
+        ExternalApi singleCallApi = new ExternalApi("single", new OkHttpClient(), 1, circuitBreaker, meterRegistry);
+        server.enqueue(new MockResponse().setResponseCode(500).setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        server.enqueue(new MockResponse().setBody("ok"));
+        String url = server.url("/").toString();
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() ->
+                assertThrows(ExternalApiException.class, () -> singleCallApi.get(url, Map.of())));
+        server.takeRequest();
+        circuitBreaker.onFailure();
+
+        //when
+        ExternalApiException exception = assertThrows(ExternalApiException.class, () -> singleCallApi.get(url, Map.of()));
+
+        //then
+        assertThat(exception.getStatusCode()).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        inFlight.join();
+        assertThat(singleCallApi.get(url, Map.of())).isEqualTo("ok");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("외부 API 호출 시, 요청 중 런타임 예외가 나도 서킷 실패로 세고 예외를 그대로 던진다.")
+    @Test
+    void get_RuntimeExceptionCountsAsFailure() {
+        //given
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofMinutes(1), Clock.systemUTC());
+        OkHttpClient failingClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    throw new IllegalStateException("interceptor failed");
+                })
+                .build();
+        ExternalApi failingApi = new ExternalApi("failing", failingClient, 1, circuitBreaker, meterRegistry);
+        String url = server.url("/").toString();
+
+        //when
+        assertThrows(IllegalStateException.class, () -> failingApi.get(url, Map.of()));
+        ExternalApiException exception = assertThrows(ExternalApiException.class, () -> failingApi.get(url, Map.of()));
+
+        //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(exception.getStatusCode()).isZero();
+    }
+}
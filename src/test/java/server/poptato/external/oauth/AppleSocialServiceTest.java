@@ -0,0 +1,41 @@
+package server.poptato.external.oauth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import server.poptato.auth.exception.AuthException;
+import server.poptato.external.oauth.apple.ApplePublicKeyCache;
+import server.poptato.external.oauth.apple.AppleSocialService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static server.poptato.auth.exception.errorcode.AuthExceptionErrorCode.INVALID_TOKEN;
+
+public class AppleSocialServiceTest {
+    private final AppleSocialService appleSocialService = new AppleSocialService(mock(ApplePublicKeyCache.class));
+
+    @DisplayName("애플 로그인 시, identity token 의 헤더가 올바른 JSON 이 아니면 INVALID_TOKEN 예외가 발생한다.")
+    @Test
+    void getUserData_MalformedHeaderJson_InvalidToken() {
+        //when
+        AuthException exception = assertThrows(AuthException.class,
+                () -> appleSocialService.getUserData("Bearer eyJ9.e30.signature"));
+
+        //then
+        assertThat(exception.getExceptionStatus()).isEqualTo(INVALID_TOKEN);
+    }
+
+    @DisplayName("애플 로그인 시, identity token 헤더의 kid 가 문자열이 아니면 INVALID_TOKEN 예외가 발생한다.")
+    @Test
+    void getUserData_NonStringKid_InvalidToken() {
+        //given
+        String header = "eyJraWQiOnt9LCJhbGciOiJSUzI1NiJ9"; // {"kid":{},"alg":"RS256"}
+
+        //when
+        AuthException exception = assertThrows(AuthException.class,
+                () -> appleSocialService.getUserData("Bearer " + header + ".e30.signature"));
+
+        //then
+        assertThat(exception.getExceptionStatus()).isEqualTo(INVALID_TOKEN);
+    }
+}
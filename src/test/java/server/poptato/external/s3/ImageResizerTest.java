@@ -0,0 +1,62 @@
+package server.poptato.external.s3;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import server.poptato.external.s3.service.ImageFormat;
+import server.poptato.external.s3.service.ImageResizer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImageResizerTest {
+    private static final long MAX_PIXELS = 25_000_000L;
+
+    @DisplayName("이미지 리사이즈 시, 실제 형식을 판별하고 긴 변 기준으로 비율을 유지해 줄인다.")
+    @Test
+    void resize_Success() throws IOException {
+        //given
+        byte[] image = encode(new BufferedImage(512, 256, BufferedImage.TYPE_INT_ARGB), "png");
+
+        //when
+        ImageFormat format = ImageFormat.detect(image);
+        byte[] resized = ImageResizer.resize(ImageResizer.read(image, MAX_PIXELS), format, 128);
+
+        //then
+        BufferedImage decoded = ImageResizer.read(resized, MAX_PIXELS);
+        assertThat(format).isEqualTo(ImageFormat.PNG);
+        assertThat(decoded.getWidth()).isEqualTo(128);
+        assertThat(decoded.getHeight()).isEqualTo(64);
+    }
+
+    @DisplayName("이미지를 읽을 때, 픽셀 수가 상한을 넘으면 디코딩하지 않고 예외가 발생한다.")
+    @Test
+    void read_TooLargeException() throws IOException {
+        //given
+        byte[] image = encode(new BufferedImage(512, 256, BufferedImage.TYPE_INT_ARGB), "png");
+
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> ImageResizer.read(image, 512 * 256 - 1));
+    }
+
+    @DisplayName("이미지 형식 판별 시, 확장자와 관계없이 내용이 이미지가 아니면 예외가 발생한다.")
+    @Test
+    void detect_InvalidFormatException() {
+        //given
+        byte[] notImage = "<svg></svg>".getBytes(StandardCharsets.UTF_8);
+
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> ImageFormat.detect(notImage));
+    }
+
+    private static byte[] encode(BufferedImage image, String formatName) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, output);
+        return output.toByteArray();
+    }
+}
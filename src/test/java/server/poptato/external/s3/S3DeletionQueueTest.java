@@ -0,0 +1,114 @@
+package server.poptato.external.s3;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import server.poptato.external.s3.service.S3DeletionQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+public class S3DeletionQueueTest {
+    @Container
+    private static final GenericContainer<?> redisContainer =
+            new GenericContainer<>("redis:latest")
+                    .withExposedPorts(6379)
+                    .waitingFor(Wait.forListeningPort());
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("s3:deletion:pending");
+        connectionFactory.destroy();
+    }
+
+    @DisplayName("삭제 큐 처리 시, 키를 1000개 단위로 묶어 삭제하고 실패한 키는 다음 처리에서 다시 시도한다.")
+    @Test
+    void flush_BatchesAndRetries() {
+        //given
+        RecordingS3 s3 = new RecordingS3("image-7.png");
+        S3DeletionQueue queue = new S3DeletionQueue(s3, redisTemplate, new SimpleMeterRegistry(), "bucket", 3);
+        queue.enqueueAll(IntStream.range(0, 2500).mapToObj(i -> "image-" + i + ".png").toList());
+
+        //when
+        queue.flush();
+
+        //then
+        assertThat(s3.batchSizes).containsExactly(1000, 1000, 500);
+        assertThat(queue.getPendingCount()).isEqualTo(1);
+
+        //when
+        queue.flush();
+
+        //then
+        assertThat(s3.batchSizes).containsExactly(1000, 1000, 500, 1);
+        assertThat(queue.getPendingCount()).isZero();
+    }
+
+    @DisplayName("삭제 큐는 Redis 에 저장되어, 처리 전에 재시작해도 새 인스턴스가 남은 키를 삭제한다.")
+    @Test
+    void flush_AfterRestart_DeletesPendingKeys() {
+        //given
+        RecordingS3 s3 = new RecordingS3(null);
+        new S3DeletionQueue(s3, redisTemplate, new SimpleMeterRegistry(), "bucket", 3)
+                .enqueueAll(List.of("image-1.png", "image-2.png"));
+        S3DeletionQueue restarted = new S3DeletionQueue(s3, redisTemplate, new SimpleMeterRegistry(), "bucket", 3);
+
+        //when
+        restarted.flush();
+
+        //then
+        assertThat(s3.deletedKeys).containsExactly("image-1.png", "image-2.png");
+        assertThat(restarted.getPendingCount()).isZero();
+    }
+
+    private static class RecordingS3 extends AbstractAmazonS3 {
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final List<String> deletedKeys = new ArrayList<>();
+        private String failOnceKey;
+
+        RecordingS3(String failOnceKey) {
+            this.failOnceKey = failOnceKey;
+        }
+
+        @Override
+        public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+            batchSizes.add(request.getKeys().size());
+            boolean containsFailingKey = request.getKeys().stream().anyMatch(key -> key.getKey().equals(failOnceKey));
+            if (containsFailingKey) {
+                MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+                error.setKey(failOnceKey);
+                failOnceKey = null;
+                throw new MultiObjectDeleteException(List.of(error), List.of());
+            }
+            request.getKeys().forEach(key -> deletedKeys.add(key.getKey()));
+            return new DeleteObjectsResult(List.of());
+        }
+    }
+}
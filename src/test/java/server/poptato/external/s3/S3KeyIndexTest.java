@@ -0,0 +1,146 @@
+package server.poptato.external.s3;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import server.poptato.external.redis.RedisBroadcaster;
+import server.poptato.external.s3.service.S3KeyIndex;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class S3KeyIndexTest {
+
+    @DisplayName("키 인덱스 갱신 시, continuation token 을 따라 1000개가 넘는 키도 모두 그룹별로 담는다.")
+    @Test
+    void refresh_AllPages_Success() {
+        //given
+        List<String> keys = IntStream.range(0, 2500)
+                .mapToObj(i -> (i % 2 == 0 ? "productivity-" : "health-") + i + ".png")
+                .toList();
+        S3KeyIndex s3KeyIndex = new S3KeyIndex(new PagedS3(keys), "bucket", mock(RedisBroadcaster.class));
+
+        //when
+        s3KeyIndex.refresh();
+
+        //then
+        assertThat(s3KeyIndex.getUrls("productivity")).hasSize(1250);
+        assertThat(s3KeyIndex.getUrls("health")).hasSize(1250);
+    }
+
+    @DisplayName("업로드, 삭제한 키는 목록을 다시 받지 않아도 인덱스에 반영된다.")
+    @Test
+    void addAndRemove_Success() {
+        //given
+        RedisBroadcaster redisBroadcaster = mock(RedisBroadcaster.class);
+        S3KeyIndex s3KeyIndex = new S3KeyIndex(new PagedS3(List.of()), "bucket", redisBroadcaster);
+
+        //when
+        s3KeyIndex.add("productivity-a.png");
+        s3KeyIndex.add("productivity-b.png");
+        s3KeyIndex.remove("productivity-a.png");
+
+        //then
+        assertThat(s3KeyIndex.getUrls("productivity")).containsExactly("https://bucket.s3.amazonaws.com/productivity-b.png");
+        verify(redisBroadcaster).publish("s3:key-index", "-productivity-a.png");
+    }
+
+    @DisplayName("키 인덱스 갱신 중에 업로드, 삭제한 키는 새 인덱스에도 반영된다.")
+    @Test
+    void refresh_ChangesDuringRefresh_Kept() {
+        //given
+        PagedS3 pagedS3 = new PagedS3(List.of("productivity-a.png", "productivity-b.png"));
+        S3KeyIndex s3KeyIndex = new S3KeyIndex(pagedS3, "bucket", mock(RedisBroadcaster.class));
+        pagedS3.onList = () -> {
+            s3KeyIndex.add("productivity-c.png");
+            s3KeyIndex.remove("productivity-a.png");
+        };
+
+        //when
+        s3KeyIndex.refresh();
+
+        //then
+        assertThat(s3KeyIndex.getUrls("productivity")).containsExactly(
+                "https://bucket.s3.amazonaws.com/productivity-b.png",
+                "https://bucket.s3.amazonaws.com/productivity-c.png");
+    }
+
+    @DisplayName("그룹 이름에 '-' 가 있어도, 그룹 이름 + '-' 로 시작하는 키를 모두 찾는다.")
+    @Test
+    void getUrls_GroupNameWithDash_Success() {
+        //given
+        S3KeyIndex s3KeyIndex = new S3KeyIndex(new PagedS3(List.of("self-care-a.png", "self-b.png", "selfish-c.png")),
+                "bucket", mock(RedisBroadcaster.class));
+
+        //when
+        s3KeyIndex.refresh();
+
+        //then
+        assertThat(s3KeyIndex.getUrls("self-care")).containsExactly("https://bucket.s3.amazonaws.com/self-care-a.png");
+        assertThat(s3KeyIndex.getUrls("self")).containsExactly(
+                "https://bucket.s3.amazonaws.com/self-b.png",
+                "https://bucket.s3.amazonaws.com/self-care-a.png");
+    }
+
+    @DisplayName("키로 URL 을 찾을 때, 인덱스에 있는 변형 이미지 키만 URL 을 돌려준다.")
+    @Test
+    void getUrl_VariantKey_Success() {
+        //given
+        S3KeyIndex s3KeyIndex = new S3KeyIndex(new PagedS3(List.of("productivity-a.png", "variants/128/productivity-a.png")),
+                "bucket", mock(RedisBroadcaster.class));
+
+        //when
+        s3KeyIndex.refresh();
+
+        //then
+        assertThat(s3KeyIndex.getUrl("variants/128/productivity-a.png"))
+                .contains("https://bucket.s3.amazonaws.com/variants/128/productivity-a.png");
+        assertThat(s3KeyIndex.getUrl("variants/64/productivity-a.png")).isEmpty();
+        assertThat(s3KeyIndex.getUrls("productivity")).containsExactly("https://bucket.s3.amazonaws.com/productivity-a.png");
+    }
+
+    private static class PagedS3 extends AbstractAmazonS3 {
+        private static final int PAGE_SIZE = 1000;
+        private final List<String> keys;
+        private Runnable onList = () -> {
+        };
+
+        PagedS3(List<String> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public ListObjectsV2Result listObjectsV2(ListObjectsV2Request request) {
+            onList.run();
+            int from = request.getContinuationToken() == null ? 0 : Integer.parseInt(request.getContinuationToken());
+            int to = Math.min(from + PAGE_SIZE, keys.size());
+            ListObjectsV2Result result = new ListObjectsV2Result();
+            keys.subList(from, to).forEach(key -> {
+                S3ObjectSummary summary = new S3ObjectSummary();
+                summary.setKey(key);
+                result.getObjectSummaries().add(summary);
+            });
+            result.setTruncated(to < keys.size());
+            result.setNextContinuationToken(to < keys.size() ? String.valueOf(to) : null);
+            return result;
+        }
+
+        @Override
+        public URL getUrl(String bucketName, String key) {
+            try {
+                return new URL("https://" + bucketName + ".s3.amazonaws.com/" + key);
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package server.poptato.external.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import server.poptato.external.s3.service.S3MultipartUploader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class S3MultipartUploaderTest {
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @DisplayName("큰 파일 업로드 시, 파트로 나눠 병렬 전송하고 실패한 파트는 재시도한다.")
+    @Test
+    void upload_MultipartWithRetry_Success() {
+        //given
+        InMemoryS3 s3 = new InMemoryS3(2);
+        byte[] content = randomBytes(PART_SIZE * 2 + 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, executor, meterRegistry, PART_SIZE, 2, 3);
+
+        //when
+        uploader.upload("bucket", "image.png", new ByteArrayInputStream(content), content.length, "image/png");
+
+        //then
+        assertThat(s3.objects.get("image.png")).isEqualTo(content);
+        assertThat(s3.aborted).isFalse();
+        assertThat(meterRegistry.get("s3.upload.throughput").summary().count()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @DisplayName("큰 파일 업로드 시, 재시도 횟수를 넘겨 실패하면 업로드를 중단한다.")
+    @Test
+    void upload_MultipartFailure_Aborted() {
+        //given
+        InMemoryS3 s3 = new InMemoryS3(2);
+        byte[] content = randomBytes(PART_SIZE * 2 + 1024);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, executor, new SimpleMeterRegistry(), PART_SIZE, 2, 1);
+
+        //when & then
+        assertThrows(SdkClientException.class,
+                () -> uploader.upload("bucket", "image.png", new ByteArrayInputStream(content), content.length, "image/png"));
+        assertThat(s3.aborted).isTrue();
+        assertThat(s3.objects).doesNotContainKey("image.png");
+        executor.shutdown();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * multipart upload 에 필요한 API 만 메모리에서 흉내 내는 S3. failingPartNumber 파트는 첫 시도에 실패한다.
+     */
+    private static class InMemoryS3 extends AbstractAmazonS3 {
+        private final int failingPartNumber;
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private final Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private volatile boolean aborted;
+
+        InMemoryS3(int failingPartNumber) {
+            this.failingPartNumber = failingPartNumber;
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("upload-1");
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            if (request.getPartNumber() == failingPartNumber && failed.compareAndSet(false, true)) {
+                throw new SdkClientException("connection reset");
+            }
+            try {
+                parts.put(request.getPartNumber(), request.getInputStream().readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            request.getPartETags().forEach(partETag -> object.writeBytes(parts.get(partETag.getPartNumber())));
+            objects.put(request.getKey(), object.toByteArray());
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted = true;
+        }
+    }
+}
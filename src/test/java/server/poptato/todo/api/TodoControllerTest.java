@@ -23,8 +23,11 @@ import server.poptato.user.application.service.UserService;
 import java.util.ArrayList;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -188,6 +191,18 @@ public class TodoControllerTest {
                 .andDo(print());
     }
 
+    @DisplayName("할 일 상세 다건 조회 요청 시 성공한다.")
+    @Test
+    void getTodoInfos_Success() throws Exception {
+        //given & when & then
+        mockMvc.perform(get("/todos")
+                        .param("ids", "1", "2", "3")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
     @DisplayName("마감기한 수정 요청 시 성공한다.")
     @Test
     void updateDeadline_Success() throws Exception {
@@ -216,12 +231,11 @@ public class TodoControllerTest {
                 .andExpect(status().isOk())
                 .andDo(print());
     }
-    @DisplayName("히스토리 목록 조회 시 page와 size를 query string으로 받고 헤더에 accessToken을 담아 요청한다.")
+    @DisplayName("히스토리 목록 조회 시 size와 date를 query string으로 받고 헤더에 accessToken을 담아 요청한다.")
     @Test
     void getHistories_Success() throws Exception {
         // given & when & then
         mockMvc.perform(get("/histories")
-                        .param("page", "0")
                         .param("size", "15")
                         .param("date", "2024-10-16")
                         .header("Authorization", "Bearer " + accessToken)
@@ -241,4 +255,40 @@ public class TodoControllerTest {
                 .andExpect(status().isOk());
 
     }
+
+    @DisplayName("달성 통계 조회 시 헤더에 accessToken을 담아 요청한다.")
+    @Test
+    void getCompletionStatistics_Success() throws Exception {
+        // given & when & then
+        mockMvc.perform(get("/statistics")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("지난 날짜의 히스토리 조회 시 짧은 max-age와 ETag를 응답하고, 같은 ETag로 재요청하면 304를 응답한다.")
+    @Test
+    void getHistories_PastDate_ShortMaxAgeWithETag() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/histories")
+                        .param("size", "15")
+                        .param("date", "2024-10-16")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=300")))
+                .andExpect(header().string("Cache-Control", not(containsString("immutable"))))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/histories")
+                        .param("size", "15")
+                        .param("date", "2024-10-16")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("If-None-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+    }
 }
@@ -0,0 +1,70 @@
+package server.poptato.todo.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import server.poptato.todo.application.response.CompletionStatisticsResponseDto;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+@SpringBootTest
+class CompletionStatisticsServiceTest {
+    @Autowired
+    private CompletionStatisticsService completionStatisticsService;
+
+    private final Long userId = 1L;
+    private final LocalDate base = LocalDate.of(2030, 1, 1);
+
+    @BeforeEach
+    void setUp() {
+        completionStatisticsService.rebuild(userId);
+        completionStatisticsService.increase(userId, base);
+        completionStatisticsService.increase(userId, base.plusDays(1));
+        completionStatisticsService.increase(userId, base.plusDays(3));
+        completionStatisticsService.increase(userId, base.plusDays(4));
+    }
+
+    @DisplayName("마지막 달성일 이전의 빈 날짜를 채우면, 앞뒤 연속 기록이 이어진다.")
+    @Test
+    void increase_FillsGap_MergesStreaks() {
+        // when
+        completionStatisticsService.increase(userId, base.plusDays(2));
+
+        // then
+        CompletionStatisticsResponseDto statistics = completionStatisticsService.getStatistics(userId, base.plusDays(4));
+        assertThat(statistics.currentStreak()).isEqualTo(5);
+        assertThat(statistics.bestStreak()).isGreaterThanOrEqualTo(5);
+    }
+
+    @DisplayName("현재 연속 기록 중간의 달성 기록이 사라지면, 그 이후 날짜만 현재 연속 기록으로 남는다.")
+    @Test
+    void decrease_SplitsCurrentStreak() {
+        // given
+        completionStatisticsService.increase(userId, base.plusDays(2));
+
+        // when
+        completionStatisticsService.decrease(userId, base.plusDays(2));
+
+        // then
+        CompletionStatisticsResponseDto statistics = completionStatisticsService.getStatistics(userId, base.plusDays(4));
+        assertThat(statistics.currentStreak()).isEqualTo(2);
+        assertThat(statistics.bestStreak()).isGreaterThanOrEqualTo(2);
+    }
+
+    @DisplayName("마지막 달성일의 달성 기록이 사라지면, 그 이전 달성일까지의 연속 기록이 현재 연속 기록이 된다.")
+    @Test
+    void decrease_LastCompletedDate_MovesBack() {
+        // when
+        completionStatisticsService.decrease(userId, base.plusDays(4));
+
+        // then
+        CompletionStatisticsResponseDto statistics = completionStatisticsService.getStatistics(userId, base.plusDays(4));
+        assertThat(statistics.currentStreak()).isEqualTo(1);
+    }
+}
@@ -7,13 +7,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.category.exception.CategoryException;
 import server.poptato.todo.api.request.*;
+import server.poptato.todo.application.response.CompletionStatisticsResponseDto;
 import server.poptato.todo.application.response.HistoryCalendarListResponseDto;
+import server.poptato.todo.application.response.HistoryHeatmapResponseDto;
 import server.poptato.todo.application.response.HistoryResponseDto;
 import server.poptato.todo.application.response.PaginatedHistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailListResponseDto;
 import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.CompletionCalendarRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
@@ -23,6 +27,8 @@ import server.poptato.todo.exception.errorcode.TodoExceptionErrorCode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +48,10 @@ class TodoServiceTest {
     private TodoRepository todoRepository;
     @Autowired
     private CompletedDateTimeRepository completedDateTimeRepository;
+    @Autowired
+    private CompletionArchiveService completionArchiveService;
+    @Autowired
+    private CompletionCalendarRepository completionCalendarRepository;
 
     @DisplayName("할일 삭제 시 성공한다.")
     @Test
@@ -58,6 +68,30 @@ class TodoServiceTest {
         assertThat(deletedTodo).isEmpty();
     }
 
+    @DisplayName("할일 삭제 시 달성 기록도 지워져 달력과 통계에서 빠진다.")
+    @Test
+    void delete_RemovesCompletions() {
+        //given
+        Long userId = 1L;
+        Todo todo = Todo.createBacklog(userId, "삭제할 할 일", 1);
+        todo.changeToToday(0);
+        Long todoId = todoRepository.save(todo).getId();
+        LocalDate today = LocalDate.now();
+        CompletionStatisticsResponseDto before = todoService.getCompletionStatistics(userId);
+        todoService.updateIsCompleted(userId, todoId, LocalDateTime.now());
+
+        //when
+        todoService.deleteTodoById(userId, todoId);
+
+        //then
+        CompletionStatisticsResponseDto after = todoService.getCompletionStatistics(userId);
+        assertThat(completedDateTimeRepository.findCompletedDatesByTodoId(todoId)).isEmpty();
+        assertThat(todoService.getHistoriesCalendar(userId, String.valueOf(today.getYear()), today.getMonthValue()).dates())
+                .doesNotContain(today);
+        assertThat(after.weeklyCompletedCount()).isEqualTo(before.weeklyCompletedCount());
+        assertThat(after.monthlyCompletedCount()).isEqualTo(before.monthlyCompletedCount());
+    }
+
     @DisplayName("스와이프 시, 존재하지 않는 할 일이면 예외가 발생한다.")
     @Test
     void swipe_TodoNotExistException() {
@@ -198,6 +232,24 @@ class TodoServiceTest {
                 .hasMessage(TodoExceptionErrorCode.TODO_TYPE_NOT_MATCH.getMessage());
     }
 
+    @DisplayName("드래그앤드롭 시 다른 사용자의 할 일이 포함되면 예외가 발생한다.")
+    @Test
+    void dragAndDrop_TodoUserNotMatchException() {
+        //given
+        Long userId = 1L;
+        Long otherUserId = 2L;
+        Todo otherUserTodo = todoRepository.save(Todo.createBacklog(otherUserId, "다른 사용자의 할 일", 1));
+        TodoDragAndDropRequestDto request = TodoDragAndDropRequestDto.builder()
+                .type(Type.BACKLOG)
+                .todoIds(List.of(otherUserTodo.getId()))
+                .build();
+
+        //when & then
+        assertThatThrownBy(() -> todoService.dragAndDrop(userId, request))
+                .isInstanceOf(TodoException.class)
+                .hasMessage(TodoExceptionErrorCode.TODO_USER_NOT_MATCH.getMessage());
+    }
+
     @DisplayName("드래그앤드롭 시 이미 달성한 TODAY 포함 시 예외가 발생한다.")
     @Test
     void dragAndDrop_AlreadyCompletedTodoException() {
@@ -263,6 +315,40 @@ class TodoServiceTest {
         assertThat(todoInfo2.emojiImageUrl()).isNull();
     }
 
+    @DisplayName("할 일 상세 다건 조회 시 요청한 순서대로 사용자의 할 일만 조회한다.")
+    @Test
+    void getTodoInfos_Success() {
+        //given
+        Long userId = 1L;
+        Long notExistTodoId = 1000L;
+        List<Long> todoIds = List.of(11L, notExistTodoId, 10L);
+
+        //when
+        TodoDetailListResponseDto todoInfos = todoService.getTodoInfos(userId, todoIds);
+
+        //then
+        List<TodoDetailResponseDto> todos = todoInfos.todos();
+        assertThat(todos).hasSize(2);
+        assertThat(todos.get(0).todoId()).isEqualTo(11L);
+        assertThat(todos.get(0).categoryName()).isNull();
+        assertThat(todos.get(1).todoId()).isEqualTo(10L);
+        assertThat(todos.get(1).categoryName()).isEqualTo("카테고리 1");
+        assertThat(todos.get(1).emojiImageUrl()).isEqualTo("https://example.com/productive-book1.png");
+    }
+
+    @DisplayName("할 일 상세 조회 시 사용자의 할 일이 아니면 예외가 발생한다.")
+    @Test
+    void getTodoInfo_TodoUserNotMatchException() {
+        //given
+        Long userId = 50L;
+        Long todoId = 10L;
+
+        //when & then
+        assertThatThrownBy(() -> todoService.getTodoInfo(userId, todoId))
+                .isInstanceOf(TodoException.class)
+                .hasMessage(TodoExceptionErrorCode.TODO_USER_NOT_MATCH.getMessage());
+    }
+
     @DisplayName("마감기한 수정 시 성공한다.")
     @Test
     void updateDeadline_Success() {
@@ -453,23 +539,26 @@ class TodoServiceTest {
     }
 
     @Test
-    @DisplayName("기록 조회 시 페이징 및 정렬하여 기록 조회를 성공한다.")
+    @DisplayName("기록 조회 시 커서 기반으로 페이징 및 정렬하여 기록 조회를 성공한다.")
     void getHistories_Success() {
         // given
         Long userId = 1L;
-        int page = 0;
         int size = 5;
         LocalDate date = LocalDate.of(2024, 10, 16);
 
         // when
-        PaginatedHistoryResponseDto historiesPage = todoService.getHistories(userId, date, page, size);
+        PaginatedHistoryResponseDto firstPage = todoService.getHistories(userId, date, null, size);
+        PaginatedHistoryResponseDto secondPage = todoService.getHistories(userId, date, firstPage.getNextCursor(), size);
 
         // then
-        int actualSize = historiesPage.getHistories().size();
-        List<HistoryResponseDto> histories = historiesPage.getHistories();
-
-        assertThat(actualSize).isLessThanOrEqualTo(size);
-        assertThat(historiesPage.getTotalPageCount()).isEqualTo(2);
+        assertThat(firstPage.getHistories().size()).isEqualTo(size);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getHistories().size()).isEqualTo(1);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+
+        List<HistoryResponseDto> histories = new ArrayList<>(firstPage.getHistories());
+        histories.addAll(secondPage.getHistories());
         for (int i = 0; i < histories.size() - 1; i++) {
             CompletedDateTime current = completedDateTimeRepository.findByDateAndTodoId(histories.get(i).todoId(), date).get();
             CompletedDateTime next = completedDateTimeRepository.findByDateAndTodoId(histories.get(i + 1).todoId(), date).get();
@@ -477,6 +566,33 @@ class TodoServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("기록 조회 시 페이지 크기가 상한을 넘으면 예외가 발생한다.")
+    void getHistories_SizeExceededException() {
+        // given
+        Long userId = 1L;
+        LocalDate date = LocalDate.of(2024, 10, 16);
+
+        // when & then
+        assertThatThrownBy(() -> todoService.getHistories(userId, date, null, Integer.MAX_VALUE))
+                .isInstanceOf(TodoException.class)
+                .hasMessage(TodoExceptionErrorCode.INVALID_PAGE.getMessage());
+    }
+
+    @Test
+    @DisplayName("기록 조회 시 존재하지 않는 커서가 주어지면 예외가 발생한다.")
+    void getHistories_InvalidCursorException() {
+        // given
+        Long userId = 1L;
+        LocalDate date = LocalDate.of(2024, 10, 16);
+        Long notExistCursor = 100000L;
+
+        // when & then
+        assertThatThrownBy(() -> todoService.getHistories(userId, date, notExistCursor, 5))
+                .isInstanceOf(TodoException.class)
+                .hasMessage(TodoExceptionErrorCode.INVALID_CURSOR.getMessage());
+    }
+
     @Test
     @DisplayName("캘린더 조회 시 기록이 있는 날짜들 반환을 성공한다")
     void getCalendar_Success() {
@@ -500,4 +616,106 @@ class TodoServiceTest {
         assertThat(year).isEqualTo(completedYear);
         assertThat(month).isEqualTo(completedMonth);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("투데이 달성 시 캘린더에 달성한 날짜가 기록된다")
+    void getCalendar_AfterComplete_Success() {
+        // given
+        Long userId = 1L;
+        Long todoId = 1L;
+        LocalDateTime updateDateTime = LocalDateTime.of(2024, 10, 16, 10, 0, 0);
+
+        // when
+        todoService.updateIsCompleted(userId, todoId, updateDateTime);
+        HistoryCalendarListResponseDto responseDto = todoService.getHistoriesCalendar(userId, "2024", 10);
+
+        // then
+        assertThat(responseDto.dates()).contains(updateDateTime.toLocalDate());
+    }
+
+    @Test
+    @DisplayName("연간 히트맵 조회 시 월별 캘린더의 기록 날짜를 모두 반환한다")
+    void getHeatmap_Success() {
+        // given
+        Long userId = 1L;
+        String year = "2024";
+
+        // when
+        HistoryHeatmapResponseDto heatmap = todoService.getHistoriesHeatmap(userId, year);
+        HistoryCalendarListResponseDto october = todoService.getHistoriesCalendar(userId, year, 10);
+
+        // then
+        assertThat(heatmap.dates()).containsAll(october.dates());
+        assertThat(heatmap.dates()).doesNotHaveDuplicates();
+        assertThat(heatmap.dates()).allMatch(date -> date.getYear() == 2024);
+    }
+
+    @Test
+    @DisplayName("히트맵 조회만으로는 월별 캘린더가 저장되지 않는다")
+    void getHeatmap_DoesNotSaveCalendars() {
+        // given
+        Long userId = 1L;
+
+        // when
+        todoService.getHistoriesHeatmap(userId, "2021");
+
+        // then
+        assertThat(completionCalendarRepository.findByUserIdAndCalendarMonthBetween(userId, 202101, 202112)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("히트맵 조회 시 유효하지 않은 연도가 주어지면 예외가 발생한다")
+    void getHeatmap_InvalidYearException() {
+        // given
+        Long userId = 1L;
+
+        // when & then
+        assertThatThrownBy(() -> todoService.getHistoriesHeatmap(userId, "999999"))
+                .isInstanceOf(TodoException.class)
+                .hasMessage(TodoExceptionErrorCode.INVALID_YEAR_MONTH.getMessage());
+        assertThatThrownBy(() -> todoService.getHistoriesHeatmap(userId, "abcd"))
+                .isInstanceOf(TodoException.class)
+                .hasMessage(TodoExceptionErrorCode.INVALID_YEAR_MONTH.getMessage());
+    }
+
+    @Test
+    @DisplayName("투데이 달성 시 주간, 월간 달성 수와 연속 달성 기록이 갱신된다")
+    void getCompletionStatistics_AfterComplete_Success() {
+        // given
+        Long userId = 1L;
+        Long todoId = 1L;
+        CompletionStatisticsResponseDto before = todoService.getCompletionStatistics(userId);
+
+        // when
+        todoService.updateIsCompleted(userId, todoId, LocalDateTime.now());
+        CompletionStatisticsResponseDto after = todoService.getCompletionStatistics(userId);
+
+        // then
+        assertThat(after.weeklyCompletedCount()).isEqualTo(before.weeklyCompletedCount() + 1);
+        assertThat(after.monthlyCompletedCount()).isEqualTo(before.monthlyCompletedCount() + 1);
+        assertThat(after.currentStreak()).isGreaterThanOrEqualTo(1);
+        assertThat(after.bestStreak()).isGreaterThanOrEqualTo(after.currentStreak());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기록을 옮긴 뒤에도 기록 조회는 같은 결과를 반환한다")
+    void getHistories_AfterArchive_Success() {
+        // given
+        Long userId = 1L;
+        int size = 15;
+        LocalDate date = LocalDate.of(2024, 10, 16);
+        List<HistoryResponseDto> before = todoService.getHistories(userId, date, null, size).getHistories();
+
+        // when
+        boolean hasRemaining = true;
+        while (hasRemaining) {
+            hasRemaining = completionArchiveService.archiveOldestDay(date.plusDays(1));
+        }
+        List<HistoryResponseDto> after = todoService.getHistories(userId, date, null, size).getHistories();
+
+        // then
+        assertThat(completedDateTimeRepository.findCompletedDates(userId, YearMonth.from(date))).doesNotContain(date);
+        assertThat(after).extracting(HistoryResponseDto::todoId)
+                .containsExactlyElementsOf(before.stream().map(HistoryResponseDto::todoId).toList());
+    }
+}
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,4 +32,21 @@ public class CompletedDateTimeRepositoryTest {
         assertThat(dateTimes).isNotNull();
         assertThat(dateTimes.size()).isEqualTo(6);
     }
+
+    @DisplayName("캘린더 조회 시, 기록이 있는 날짜들을 중복 없이 오름차순으로 조회한다")
+    @Test
+    void findCompletedDates_Success(){
+        //given
+        Long userId = 1L;
+        YearMonth yearMonth = YearMonth.of(2024, 10);
+
+        //when
+        List<LocalDate> dates = completedDateTimeRepository.findCompletedDates(userId, yearMonth);
+
+        //then
+        assertThat(dates).isNotEmpty();
+        assertThat(dates).doesNotHaveDuplicates();
+        assertThat(dates).isSorted();
+        assertThat(dates).allMatch(date -> YearMonth.from(date).equals(yearMonth));
+    }
 }
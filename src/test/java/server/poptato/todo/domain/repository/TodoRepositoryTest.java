@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import server.poptato.todo.application.response.HistoryResponseDto;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.value.TodayStatus;
@@ -146,10 +147,10 @@ class TodoRepositoryTest {
         Pageable pageable = PageRequest.of(0, 15);
 
         //when
-        Page<Todo> histories = todoRepository.findHistories(userId, date, pageable);
+        List<HistoryResponseDto> histories = todoRepository.findHistories(userId, date, null, pageable);
 
         //then
         assertThat(histories).isNotNull();
-        assertThat(histories.getContent().size()).isEqualTo(6);
+        assertThat(histories.size()).isEqualTo(6);
     }
 }
\ No newline at end of file
@@ -1,14 +1,33 @@
 package server.poptato.user.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.user.application.response.UserInfoResponseDto;
+import server.poptato.user.application.service.UserExportService;
+import server.poptato.user.application.service.UserPurgeService;
 import server.poptato.user.application.service.UserService;
 import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.exception.UserException;
 import server.poptato.user.exception.errorcode.UserExceptionErrorCode;
+import server.poptato.user.validator.UserValidator;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -22,6 +41,21 @@ class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserValidator userValidator;
+
+    @Autowired
+    private UserPurgeService userPurgeService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     @DisplayName("마이페이지 조회 시 성공한다.")
     public void getUserInfo_Success() {
@@ -48,5 +82,94 @@ class UserServiceTest {
                 .isInstanceOf(UserException.class)
                 .hasMessage(UserExceptionErrorCode.USER_NOT_EXIST.getMessage());
     }
-}
 
+    @Test
+    @DisplayName("존재하는 유저만 캐시되어, 존재하지 않는 유저는 반복 조회해도 UserException을 던진다")
+    public void checkIsExistUser_NotCachedWhenNotExist() {
+        // given
+        Long userId = 1L;
+        Long invalidUserId = 2L;
+
+        // when
+        userValidator.checkIsExistUser(userId);
+        userValidator.checkIsExistUser(userId);
+
+        // then
+        assertThatThrownBy(() -> userValidator.checkIsExistUser(invalidUserId))
+                .isInstanceOf(UserException.class);
+        assertThatThrownBy(() -> userValidator.checkIsExistUser(invalidUserId))
+                .isInstanceOf(UserException.class)
+                .hasMessage(UserExceptionErrorCode.USER_NOT_EXIST.getMessage());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("탈퇴한 유저의 데이터를 chunk 단위로 나눠 모두 삭제한다.")
+    public void purge_DeletesAllTodos() {
+        // given
+        Long userId = 1L;
+        assertThat(todoRepository.findIdsByUserId(userId, PageRequest.of(0, 1))).isNotEmpty();
+
+        // when
+        userPurgeService.purge(userId);
+
+        // then
+        assertThat(todoRepository.findIdsByUserId(userId, PageRequest.of(0, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("데이터 내보내기 시 한 줄에 하나씩 JSON으로 유저의 할 일을 내보내고, 마지막 줄에 내보낸 행 수를 쓴다.")
+    public void export_WritesNdjson() throws Exception {
+        // given
+        Long userId = 1L;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        userExportService.export(userId, WebAsyncUtils.getAsyncManager(new MockHttpServletRequest())).writeTo(outputStream);
+
+        // then
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        List<JsonNode> dataRows = rows.subList(0, rows.size() - 1);
+        JsonNode trailer = rows.get(rows.size() - 1);
+        assertThat(dataRows).isNotEmpty();
+        assertThat(dataRows).allMatch(row -> row.hasNonNull("type") && row.hasNonNull("id"));
+        assertThat(dataRows).anyMatch(row -> row.get("type").asText().equals("todo"));
+        assertThat(trailer.get("type").asText()).isEqualTo("end");
+        assertThat(trailer.get("rowCount").asLong()).isEqualTo(dataRows.size());
+    }
+
+    @Test
+    @DisplayName("데이터 내보내기 시 본문이 실행되지 못한 채 요청이 끝나도 동시 실행 허가를 돌려주고, 전용 타임아웃을 쓴다.")
+    public void export_RequestEndsBeforeBody_ReleasesPermit() throws Exception {
+        // given
+        Long userId = 1L;
+        int exportCount = 5;
+
+        for (int i = 0; i < exportCount; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setAsyncSupported(true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+            asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+            asyncManager.setTaskExecutor(task -> {
+            });
+
+            // when
+            StreamingResponseBody body = userExportService.export(userId, asyncManager);
+            asyncManager.startCallableProcessing(() -> {
+                body.writeTo(response.getOutputStream());
+                return null;
+            });
+
+            // then
+            assertThat(request.getAsyncContext().getTimeout()).isEqualTo(600_000L);
+            request.getAsyncContext().complete();
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        userExportService.export(userId, WebAsyncUtils.getAsyncManager(new MockHttpServletRequest())).writeTo(outputStream);
+        assertThat(outputStream.size()).isPositive();
+    }
+}